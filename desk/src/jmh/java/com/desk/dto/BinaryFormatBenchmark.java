@@ -0,0 +1,79 @@
+package com.desk.dto;
+
+import com.desk.domain.TicketGrade;
+import com.desk.domain.TicketState;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/*
+ * 받은함 100건 페이지 --- JSON vs CBOR 인코딩/디코딩 처리량, 응답 크기(byte)는 시작할 때 출력
+ * 디코딩은 클라이언트처럼 content 를 TicketReceivedRowDTO 목록으로 읽음
+ * (./gradlew jmh)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class BinaryFormatBenchmark {
+
+    private static final int ROWS = 100;
+
+    @Param({"json", "cbor"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private PageEnvelopeDTO<TicketReceivedRowDTO> page;
+    private byte[] encoded;
+
+    // 클라이언트 쪽에서 읽는 모양 (page 정보는 그대로)
+    record InboxPage(List<TicketReceivedRowDTO> content, JsonNode page) {
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        objectMapper = "cbor".equals(format) ? builder.factory(new CBORFactory()).build() : builder.build();
+
+        LocalDateTime now = LocalDateTime.of(2025, 1, 6, 9, 30);
+        List<TicketReceivedRowDTO> rows = IntStream.range(0, ROWS)
+                .mapToObj(i -> TicketReceivedRowDTO.builder()
+                        .pno(100_000L + i)
+                        .receiver("receiver@desk.com")
+                        .isread(i % 3 == 0)
+                        .state(TicketState.values()[i % TicketState.values().length])
+                        .tno(50_000L + i)
+                        .title("서버 점검 요청 " + i)
+                        .grade(TicketGrade.values()[i % TicketGrade.values().length])
+                        .birth(now.minusHours(i))
+                        .deadline(now.plusDays(7))
+                        .writer("writer" + (i % 5) + "@desk.com")
+                        .build())
+                .toList();
+        page = PageEnvelopeDTO.of(new PageImpl<>(rows, PageRequest.of(0, ROWS), 1_234));
+        encoded = objectMapper.writeValueAsBytes(page);
+
+        System.out.printf("%n[%s] %d rows = %d bytes%n", format, ROWS, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public InboxPage decode() throws Exception {
+        return objectMapper.readValue(encoded, InboxPage.class);
+    }
+}
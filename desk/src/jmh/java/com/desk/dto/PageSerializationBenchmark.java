@@ -0,0 +1,74 @@
+package com.desk.dto;
+
+import com.desk.domain.TicketGrade;
+import com.desk.domain.TicketState;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/*
+ * 받은함 목록 응답 직렬화 --- Page(PageImpl) 그대로 vs PageEnvelopeDTO
+ * ObjectMapper 는 스프링 기본 설정과 같게 (Jackson2ObjectMapperBuilder), 응답 크기(byte)는 시작할 때 출력
+ * (./gradlew jmh)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class PageSerializationBenchmark {
+
+    @Param({"10", "50"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private Page<TicketReceivedRowDTO> page;
+    private PageEnvelopeDTO<TicketReceivedRowDTO> envelope;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        LocalDateTime now = LocalDateTime.of(2025, 1, 6, 9, 30);
+        List<TicketReceivedRowDTO> rows = IntStream.range(0, size)
+                .mapToObj(i -> TicketReceivedRowDTO.builder()
+                        .pno(100_000L + i)
+                        .receiver("receiver@desk.com")
+                        .isread(i % 3 == 0)
+                        .state(TicketState.NEW)
+                        .tno(50_000L + i)
+                        .title("서버 점검 요청 " + i)
+                        .grade(TicketGrade.MIDDLE)
+                        .birth(now.minusDays(i))
+                        .deadline(now.plusDays(7))
+                        .writer("writer@desk.com")
+                        .build())
+                .toList();
+        page = new PageImpl<>(rows, PageRequest.of(3, size, Sort.by(Sort.Direction.DESC, "pno")), 1_234);
+        envelope = PageEnvelopeDTO.of(page);
+
+        int pageBytes = objectMapper.writeValueAsBytes(page).length;
+        int envelopeBytes = objectMapper.writeValueAsBytes(envelope).length;
+        System.out.printf("%n[size=%d] PageImpl=%d bytes | PageEnvelopeDTO=%d bytes%n", size, pageBytes, envelopeBytes);
+    }
+
+    @Benchmark
+    public byte[] pageImpl() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] pageEnvelope() throws Exception {
+        return objectMapper.writeValueAsBytes(PageEnvelopeDTO.of(page));
+    }
+}
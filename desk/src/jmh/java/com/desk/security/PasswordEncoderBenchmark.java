@@ -0,0 +1,55 @@
+package com.desk.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 로그인(비밀번호 비교) 처리량 --- BCrypt 비용별, 요청 스레드에서 바로 vs 해시 전용 스레드
+ * 요청 스레드 16개가 동시에 로그인하는 상황 (./gradlew jmh)
+ * hashThreads=0 이면 예전처럼 요청 스레드에서 직접 BCrypt
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(16)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "1111";
+
+    @Param({"8", "10", "12"})
+    private int strength;
+
+    @Param({"0", "2", "4"})
+    private int hashThreads;
+
+    private PasswordEncoder encoder;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        encoded = bcrypt.encode(PASSWORD);
+        encoder = hashThreads == 0
+                ? bcrypt
+                : new BoundedPasswordEncoder(bcrypt, hashThreads, 1024, Duration.ofMinutes(1));
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (encoder instanceof BoundedPasswordEncoder bounded) {
+            bounded.shutdown();
+        }
+    }
+
+    @Benchmark
+    public boolean login() {
+        return encoder.matches(PASSWORD, encoded);
+    }
+}
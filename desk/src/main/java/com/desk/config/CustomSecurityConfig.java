@@ -1,13 +1,18 @@
 package com.desk.config;
 
+import com.desk.security.BoundedPasswordEncoder;
 import com.desk.security.CustomUserDetailsService;
+import com.desk.security.LoginThrottle;
+import com.desk.security.TokenRevocationList;
 import com.desk.security.filter.JWTCheckFilter;
+import com.desk.security.filter.LoginThrottleFilter;
 import com.desk.security.handler.APILoginFailHandler;
 import com.desk.security.handler.APILoginSuccessHandler;
 import com.desk.security.handler.CustomAccessDeniedHandler;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -16,6 +21,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -23,7 +29,9 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
@@ -33,10 +41,36 @@ import java.util.Arrays;
 public class CustomSecurityConfig {
 
     private final CustomUserDetailsService customUserDetailsService;
+    // 삭제/미승인 회원 토큰 차단 (JWTCheckFilter)
+    private final TokenRevocationList tokenRevocationList;
+    // 로그인 실패가 많은 계정/IP 차단 (LoginThrottleFilter)
+    private final LoginThrottle loginThrottle;
+
+    private static final String LOGIN_URL = "/api/member/login";
+
+    // BCrypt 비용(2^n 회), 올리면 다음 로그인 때 새 비용으로 다시 저장됨
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    // 비밀번호 해시 전용 스레드 수 (0 이면 CPU 코어 절반), 대기열 크기, 최대 대기 시간
+    @Value("${security.password.hash-threads:0}")
+    private int hashThreads;
+
+    @Value("${security.password.hash-queue:64}")
+    private int hashQueue;
+
+    @Value("${security.password.hash-timeout:5s}")
+    private Duration hashTimeout;
 
     @Bean // 비밀번호 암호화(BCrypt 해시 방식으로 암호화), (@Bean)스프링 전역에서 사용가능
-    public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(){
+        // {bcrypt} 접두사로 저장, 접두사 없는 기존 해시도 BCrypt 로 비교 (로그인 성공 시 새 형식으로 다시 저장)
+        PasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        int threads = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(delegating, threads, hashQueue, hashTimeout);
     }
 
     @Bean
@@ -69,14 +103,16 @@ public class CustomSecurityConfig {
 
         // 로그인 설정 (JWT 발급 지점)
         http.formLogin(config ->{
-            config.loginPage("/api/member/login");
-            config.successHandler(new APILoginSuccessHandler());
-            config.failureHandler(new APILoginFailHandler());
+            config.loginPage(LOGIN_URL);
+            config.successHandler(new APILoginSuccessHandler(loginThrottle));
+            config.failureHandler(new APILoginFailHandler(loginThrottle));
         });
 
         // JWT 검증 필터 등록 (요청마다 실행)
         // UsernamePasswordAuthenticationFilter 실행 시, 내부적으로 loadUserByUsername()이 호출.(로그인 시) - CustomUserDetailsService
-        http.addFilterBefore(new JWTCheckFilter(), UsernamePasswordAuthenticationFilter.class); //JWT 체크
+        http.addFilterBefore(new JWTCheckFilter(tokenRevocationList), UsernamePasswordAuthenticationFilter.class); //JWT 체크
+        // 로그인 시도 제한 (인증 전에 실행되어야 회원 조회/BCrypt 를 안 함)
+        http.addFilterBefore(new LoginThrottleFilter(loginThrottle, LOGIN_URL), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
@@ -107,6 +143,8 @@ public class CustomSecurityConfig {
 
         authProvider.setUserDetailsService(customUserDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder);
+        // 로그인 성공 시 비용/형식이 바뀐 해시면 다시 저장
+        authProvider.setUserDetailsPasswordService(customUserDetailsService);
 
         // ★ 핵심: UsernameNotFoundException을 BadCredentialsException으로 숨기지 않음
         authProvider.setHideUserNotFoundExceptions(false);
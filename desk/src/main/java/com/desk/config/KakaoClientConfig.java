@@ -0,0 +1,84 @@
+package com.desk.config;
+
+import com.desk.security.KakaoClient;
+import com.desk.util.CircuitBreaker;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.time.Duration;
+
+/*
+ * 카카오 API 호출용 HTTP 클라이언트
+ * 요청마다 RestTemplate 을 새로 만들면 커넥션을 매번 새로 열고 타임아웃도 없어서,
+ * 카카오가 느려지면 요청 스레드가 응답을 무한정 기다리며 쌓임 --- 풀을 공유하고 connect/read/풀 대기 시간을 제한
+ */
+@Configuration
+public class KakaoClientConfig {
+
+    // 카카오 API 주소 (로컬 부하 테스트는 bootTestRun + kakao-stub 프로필로 스텁 서버 주소)
+    @Value("${kakao.api.base-url:https://kapi.kakao.com}")
+    private String baseUrl;
+
+    @Value("${kakao.api.connect-timeout:1s}")
+    private Duration connectTimeout;
+
+    @Value("${kakao.api.read-timeout:2s}")
+    private Duration readTimeout;
+
+    // 동시에 카카오로 나가는 최대 연결 수 (넘으면 pool-timeout 만큼 기다리다 실패)
+    @Value("${kakao.api.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${kakao.api.pool-timeout:500ms}")
+    private Duration poolTimeout;
+
+    // 같은 access token 재요청 시 이메일 재사용 시간
+    @Value("${kakao.api.cache-ttl:5m}")
+    private Duration cacheTtl;
+
+    // 연속 실패 몇 번이면 서킷 OPEN, 얼마 동안 호출 안 함
+    @Value("${kakao.api.circuit.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${kakao.api.circuit.open-duration:30s}")
+    private Duration openDuration;
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient kakaoHttpClient() {
+        return HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(maxConnections)
+                        .setMaxConnPerRoute(maxConnections)
+                        .setDefaultConnectionConfig(ConnectionConfig.custom()
+                                .setConnectTimeout(Timeout.of(connectTimeout))
+                                .setSocketTimeout(Timeout.of(readTimeout))
+                                .build())
+                        .build())
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(poolTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .disableCookieManagement()
+                .build();
+    }
+
+    @Bean
+    public KakaoClient kakaoClient(RestTemplateBuilder restTemplateBuilder, CloseableHttpClient kakaoHttpClient) {
+        return new KakaoClient(
+                restTemplateBuilder
+                        .rootUri(baseUrl)
+                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(kakaoHttpClient))
+                        .build(),
+                new CircuitBreaker(failureThreshold, openDuration),
+                cacheTtl);
+    }
+}
@@ -0,0 +1,23 @@
+package com.desk.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/*
+ * 바이너리 응답 (CBOR, application/cbor)
+ * 모바일 앱/리포트 배치처럼 내부 클라이언트가 Accept: application/cbor 로 요청하면 JSON 대신 CBOR 로 응답 (요청 바디도 가능)
+ * Accept 가 없거나 모든 타입이면 지금처럼 JSON (변환기 목록에서 JSON 이 앞)
+ * JSON 과 같은 Jackson 설정(날짜 모듈, @JsonFormat, PageEnvelopeDTO Serializer 등)을 그대로 써서 필드 구성은 JSON 과 같음
+ */
+@Configuration
+public class MessageConverterConfig {
+
+    // 스프링 부트가 기본 CBOR 변환기 자리에 이 빈을 넣음 (JSON 변환기보다 뒤)
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
@@ -0,0 +1,59 @@
+package com.desk.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+/*
+ * 티켓 상세 조회용 하이버네이트 2차 캐시 (서버 메모리, Caffeine)
+ * 티켓 본문은 생성 후 거의 안 바뀌는데 상세를 열 때마다 DB 를 다녀와서 캐시해둠
+ * 읽음/상태변경은 엔티티 변경이라 커밋 때 캐시도 같이 갱신되고, 삭제(delete 문)는 하이버네이트가 영역을 비움
+ */
+@Configuration
+public class TicketCacheConfig {
+
+    // 캐시 영역 이름 (엔티티의 @Cache(region = ...) 와 같아야 함)
+    public static final String TICKET = "ticket";
+    public static final String TICKET_PERSONALS = "ticket.personals";
+    public static final String TICKET_PERSONAL = "ticketPersonal";
+
+    @Value("${ticket.cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${ticket.cache.ttl:30m}")
+    private Duration ttl;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager ticketCacheManager() {
+        // 테스트처럼 컨텍스트가 여러 개 떠도 같은 이름의 캐시가 겹치지 않게 매니저를 따로 만듦
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("desk-ticket-cache-" + System.identityHashCode(this)), getClass().getClassLoader());
+
+        for (String region : List.of(TICKET, TICKET_PERSONALS, TICKET_PERSONAL)) {
+            CaffeineConfiguration<Object, Object> config = new CaffeineConfiguration<>();
+            config.setMaximumSize(OptionalLong.of(maxSize));
+            config.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            // 적중/실패/제거 횟수 (관리자 통계)
+            config.setNativeStatisticsEnabled(true);
+            cacheManager.createCache(region, config);
+        }
+        return cacheManager;
+    }
+
+    // 하이버네이트가 위에서 만든 캐시를 쓰도록
+    @Bean
+    public HibernatePropertiesCustomizer ticketCacheCustomizer(CacheManager ticketCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, ticketCacheManager);
+    }
+}
@@ -1,5 +1,6 @@
 package com.desk.controller;
 
+import com.desk.security.TokenRevocationList;
 import com.desk.util.CustomJWTException;
 import com.desk.util.JWTUtil;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,9 @@ import java.util.Map;
 @Log4j2
 public class APIRefreshController {
 
+  // 삭제/미승인 회원은 refresh 로 재발급 안 함
+  private final TokenRevocationList tokenRevocationList;
+
   @RequestMapping("/api/member/refresh") 
   // HTTP 요청 헤더 중 Authorization 값을 가져와서 authHeader 변수에 담음 → 일반적으로 JWT를 Bearer 토큰 형태로 받을 때 사용 (Access Token)
   public Map<String, Object> refresh(@RequestHeader("Authorization") String authHeader, String refreshToken){
@@ -38,6 +42,11 @@ public class APIRefreshController {
 
     log.info("refresh ... claims: " + claims);
 
+    // 다시 서명하기 전에 차단 목록 확인
+    if (tokenRevocationList.isRevoked((String) claims.get("email"), ((Number) claims.get("iat")).longValue())) {
+      throw new CustomJWTException("Revoked");
+    }
+
     String newAccessToken = JWTUtil.generateToken(claims, 60);
 
     // refreshToken 재발급 여부 결정: 만료까지 1시간 미만 → 새 refreshToken 발급, 아직 충분히 남음 → 기존 refreshToken 사용
@@ -1,8 +1,11 @@
 package com.desk.controller;
 
+import com.desk.dto.CacheStatsDTO;
 import com.desk.dto.MemberDTO;
 import com.desk.dto.PageRequestDTO;
 import com.desk.dto.PageResponseDTO;
+import com.desk.dto.PasswordHashStatsDTO;
+import com.desk.dto.ReadReceiptStatsDTO;
 import com.desk.service.AdminService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -46,4 +49,22 @@ public class AdminController {
         adminService.deleteMember(email);
         return Map.of("result", "SUCCESS");
     }
-}
\ No newline at end of file
+
+    // 5. 티켓 2차 캐시 통계 (영역별 적중/실패/제거)
+    @GetMapping("/cache")
+    public List<CacheStatsDTO> getCacheStats() {
+        return adminService.getCacheStats();
+    }
+
+    // 6. 비밀번호 해시 대기열 (로그인 몰림 확인)
+    @GetMapping("/password-hash")
+    public PasswordHashStatsDTO getPasswordHashStats() {
+        return adminService.getPasswordHashStats();
+    }
+
+    // 7. 읽음처리 버퍼 (아직 반영 안 된 개수, flush 시간)
+    @GetMapping("/read-receipts")
+    public ReadReceiptStatsDTO getReadReceiptStats() {
+        return adminService.getReadReceiptStats();
+    }
+}
@@ -1,8 +1,13 @@
 package com.desk.controller;
 
 import com.desk.domain.TicketState;
+import com.desk.dto.CursorResponseDTO;
+import com.desk.dto.PageEnvelopeDTO;
+import com.desk.dto.TicketBulkUpdateDTO;
 import com.desk.dto.TicketFilterDTO;
+import com.desk.dto.TicketInboxCountDTO;
 import com.desk.dto.TicketReceivedListDTO;
+import com.desk.dto.TicketReceivedRowDTO;
 import com.desk.service.PersonalTicketService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -11,6 +16,8 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @RestController
 @RequiredArgsConstructor
 @Log4j2
@@ -21,7 +28,7 @@ public class PersonalTicketController {
 
     // 받은함 페이지 조회 --- receiver 기준 + 필터 + 페이징
     @GetMapping
-    public ResponseEntity<Page<TicketReceivedListDTO>> listInbox(
+    public ResponseEntity<PageEnvelopeDTO<TicketReceivedRowDTO>> listInbox(
             @RequestParam String receiver,
             @ModelAttribute TicketFilterDTO filter,
             @PageableDefault(size = 10, sort = "pno", direction = Sort.Direction.DESC) Pageable pageable
@@ -30,13 +37,71 @@ public class PersonalTicketController {
         log.info("[Inbox] 목록 요청 | 수신자={} | page={} | size={} | sort={} | filter={}",
                 receiver, pageable.getPageNumber(), pageable.getPageSize(), sort, filter);
 
-        Page<TicketReceivedListDTO> page =
+        Page<TicketReceivedRowDTO> page =
                 personalTicketService.listRecieveTicket(receiver, filter, pageable);
 
         log.info("[Inbox] 목록 응답 | 수신자={} | page={} | size={} | 반환건수={} | 전체건수={}",
                 receiver, page.getNumber(), page.getSize(), page.getNumberOfElements(), page.getTotalElements());
 
-        return ResponseEntity.ok(page);
+        // Page 그대로가 아니라 content + 페이지 정보만 (dto/PageEnvelopeDTO)
+        return ResponseEntity.ok(PageEnvelopeDTO.of(page));
+    }
+
+    // 받은함 슬라이스 조회 --- 전체 개수 없이 hasNext 만 (무한스크롤용, count 쿼리 생략)
+    @GetMapping("/slice")
+    public ResponseEntity<Slice<TicketReceivedRowDTO>> listInboxSlice(
+            @RequestParam String receiver,
+            @ModelAttribute TicketFilterDTO filter,
+            @PageableDefault(size = 10, sort = "pno", direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+        log.info("[Inbox] 슬라이스 목록 요청 | 수신자={} | page={} | size={} | filter={}",
+                receiver, pageable.getPageNumber(), pageable.getPageSize(), filter);
+
+        Slice<TicketReceivedRowDTO> slice =
+                personalTicketService.listRecieveTicketSlice(receiver, filter, pageable);
+
+        log.info("[Inbox] 슬라이스 목록 응답 | 수신자={} | 반환건수={} | hasNext={}",
+                receiver, slice.getNumberOfElements(), slice.hasNext());
+
+        return ResponseEntity.ok(slice);
+    }
+
+    // 받은함 커서 조회 --- receiver 기준 + 필터 + ?after=<pno> (첫 페이지는 after 없이)
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponseDTO<TicketReceivedRowDTO>> listInboxAfter(
+            @RequestParam String receiver,
+            @ModelAttribute TicketFilterDTO filter,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        log.info("[Inbox] 커서 목록 요청 | 수신자={} | after={} | size={} | filter={}",
+                receiver, after, size, filter);
+
+        // size 는 1 이상만, 너무 크면 MAX_SIZE 까지만 (Pageable 목록의 최대 크기 제한과 같은 역할)
+        if (size < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        size = Math.min(size, CursorResponseDTO.MAX_SIZE);
+
+        CursorResponseDTO<TicketReceivedRowDTO> result =
+                personalTicketService.listRecieveTicketAfter(receiver, filter, after, size);
+
+        log.info("[Inbox] 커서 목록 응답 | 수신자={} | 반환건수={} | nextCursor={}",
+                receiver, result.getDtoList().size(), result.getNextCursor());
+
+        return ResponseEntity.ok(result);
+    }
+
+    // 받은함 배지 개수 --- 안읽음/상태별 (목록 없이 PK 조회 한 번)
+    // 화면에서 주기적으로 부르는 용도라 로그는 debug 로만
+    @GetMapping("/counts")
+    public ResponseEntity<TicketInboxCountDTO> counts(@RequestParam String receiver) {
+        TicketInboxCountDTO dto = personalTicketService.getCounts(receiver);
+
+        log.debug("[Inbox] 배지 개수 | 수신자={} | 전체={} | 안읽음={}",
+                receiver, dto.getTotal(), dto.getUnread());
+
+        return ResponseEntity.ok(dto);
     }
 
     // 받은 티켓 단일 조회 (pno 기준) --- receiver 소유 검증 + markAsRead 옵션
@@ -91,4 +156,34 @@ public class PersonalTicketController {
 
         return ResponseEntity.ok(dto);
     }
+
+    // 일괄 읽음처리 --- 바디에 pnos 또는 filter (receiver 소유만 바뀜)
+    @PatchMapping("/read")
+    public ResponseEntity<Map<String, Long>> markAsRead(
+            @RequestParam String receiver,
+            @RequestBody TicketBulkUpdateDTO req
+    ) {
+        log.info("[Inbox] 일괄 읽음 요청 | 수신자={} | pno수={} | filter={}",
+                receiver, req.getPnos() == null ? 0 : req.getPnos().size(), req.getFilter());
+
+        long updated = personalTicketService.markAsRead(receiver, req);
+
+        log.info("[Inbox] 일괄 읽음 완료 | 수신자={} | 변경건수={}", receiver, updated);
+        return ResponseEntity.ok(Map.of("updated", updated));
+    }
+
+    // 일괄 상태변경 --- 바디에 state + pnos 또는 filter (receiver 소유만 바뀜)
+    @PatchMapping("/state")
+    public ResponseEntity<Map<String, Long>> changeStates(
+            @RequestParam String receiver,
+            @RequestBody TicketBulkUpdateDTO req
+    ) {
+        log.info("[Inbox] 일괄 상태 변경 요청 | 수신자={} | pno수={} | state={} | filter={}",
+                receiver, req.getPnos() == null ? 0 : req.getPnos().size(), req.getState(), req.getFilter());
+
+        long updated = personalTicketService.changeStates(receiver, req);
+
+        log.info("[Inbox] 일괄 상태 변경 완료 | 수신자={} | 변경건수={}", receiver, updated);
+        return ResponseEntity.ok(Map.of("updated", updated));
+    }
 }
@@ -9,6 +9,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.data.web.PageableDefault;
 
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequiredArgsConstructor
 @Log4j2
@@ -41,7 +44,7 @@ public class TicketController {
 
     // 보낸함 페이지 조회 --- writer 기준 + filter + 페이징/정렬
     @GetMapping("/sent")
-    public ResponseEntity<Page<TicketSentListDTO>> listSent(
+    public ResponseEntity<PageEnvelopeDTO<TicketSentRowDTO>> listSent(
             @RequestParam String writer,
             // 쿼리스트링 파라미터들을 DTO 필드에 묶어서 넣음
             @ModelAttribute TicketFilterDTO filter,
@@ -58,7 +61,7 @@ public class TicketController {
                 filter
         );
 
-        Page<TicketSentListDTO> page = ticketService.listSent(writer, filter, pageable);    // 리스트 조회니까 Page로
+        Page<TicketSentRowDTO> page = ticketService.listSent(writer, filter, pageable);    // 리스트 조회니까 Page로
 
         log.info("[Ticket] 보낸함 목록 응답 | 작성자={} | page={} | size={} | 반환건수={} | 전체건수={}",
                 writer,
@@ -68,7 +71,51 @@ public class TicketController {
                 page.getTotalElements()
         );
 
-        return ResponseEntity.ok(page);
+        // Page 그대로가 아니라 content + 페이지 정보만 (dto/PageEnvelopeDTO)
+        return ResponseEntity.ok(PageEnvelopeDTO.of(page));
+    }
+
+    // 보낸함 슬라이스 조회 --- 전체 개수 없이 hasNext 만 (무한스크롤용, count 쿼리 생략)
+    @GetMapping("/sent/slice")
+    public ResponseEntity<Slice<TicketSentRowDTO>> listSentSlice(
+            @RequestParam String writer,
+            @ModelAttribute TicketFilterDTO filter,
+            @PageableDefault(size = 10, sort = "tno", direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+        log.info("[Ticket] 보낸함 슬라이스 목록 요청 | 작성자={} | page={} | size={} | filter={}",
+                writer, pageable.getPageNumber(), pageable.getPageSize(), filter);
+
+        Slice<TicketSentRowDTO> slice = ticketService.listSentSlice(writer, filter, pageable);
+
+        log.info("[Ticket] 보낸함 슬라이스 목록 응답 | 작성자={} | 반환건수={} | hasNext={}",
+                writer, slice.getNumberOfElements(), slice.hasNext());
+
+        return ResponseEntity.ok(slice);
+    }
+
+    // 보낸함 커서 조회 --- writer 기준 + filter + ?after=<tno> (첫 페이지는 after 없이)
+    @GetMapping("/sent/cursor")
+    public ResponseEntity<CursorResponseDTO<TicketSentRowDTO>> listSentAfter(
+            @RequestParam String writer,
+            @ModelAttribute TicketFilterDTO filter,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        log.info("[Ticket] 보낸함 커서 목록 요청 | 작성자={} | after={} | size={} | filter={}",
+                writer, after, size, filter);
+
+        // size 1 미만은 400, 최대 CursorResponseDTO.MAX_SIZE
+        if (size < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        size = Math.min(size, CursorResponseDTO.MAX_SIZE);
+
+        CursorResponseDTO<TicketSentRowDTO> result = ticketService.listSentAfter(writer, filter, after, size);
+
+        log.info("[Ticket] 보낸함 커서 목록 응답 | 작성자={} | 반환건수={} | nextCursor={}",
+                writer, result.getDtoList().size(), result.getNextCursor());
+
+        return ResponseEntity.ok(result);
     }
 
     // 보낸 티켓 단일 조회 --- tno + writer로 권한 확인 후 반환
@@ -85,6 +132,23 @@ public class TicketController {
         return ResponseEntity.ok(dto);
     }
 
+    // 보낸 티켓 수신자 목록 --- 보낸함 목록에는 진행 현황 개수만 있으므로 수신자별 상태는 여기서 페이징
+    @GetMapping("/sent/{tno}/receivers")
+    public ResponseEntity<PageEnvelopeDTO<TicketStateDTO>> listReceivers(
+            @PathVariable Long tno,
+            @RequestParam String writer,
+            @PageableDefault(size = 20, sort = "pno", direction = Sort.Direction.ASC) Pageable pageable
+    ) {
+        log.info("[Ticket] 수신자 목록 요청 | 작성자={} | 티켓번호={} | page={} | size={}",
+                writer, tno, pageable.getPageNumber(), pageable.getPageSize());
+
+        Page<TicketStateDTO> page = ticketService.listReceivers(tno, writer, pageable);
+
+        log.info("[Ticket] 수신자 목록 응답 | 작성자={} | 티켓번호={} | 반환건수={} | 전체건수={}",
+                writer, tno, page.getNumberOfElements(), page.getTotalElements());
+        return ResponseEntity.ok(PageEnvelopeDTO.of(page));
+    }
+
     // 티켓 삭제 --- writer 요청 시 Ticket 삭제 (연관 TicketPersonal도 함께 삭제)
     @DeleteMapping("/{tno}")
     public ResponseEntity<Void> deleteSent(
@@ -98,4 +162,18 @@ public class TicketController {
         log.info("[Ticket] 보낸티켓 삭제 완료 | 작성자={} | 티켓번호={}", writer, tno);
         return ResponseEntity.noContent().build();
     }
+
+    // 티켓 일괄 삭제 --- ?tno=1&tno=2... (writer 가 쓴 티켓만, 하나라도 아니면 전부 취소)
+    @DeleteMapping
+    public ResponseEntity<Map<String, Long>> deleteSentAll(
+            @RequestParam("tno") List<Long> tnos,
+            @RequestParam String writer
+    ) {
+        log.info("[Ticket] 보낸티켓 일괄 삭제 요청 | 작성자={} | 티켓수={}", writer, tnos.size());
+
+        long deleted = ticketService.deleteSent(tnos, writer);
+
+        log.info("[Ticket] 보낸티켓 일괄 삭제 완료 | 작성자={} | 삭제={}", writer, deleted);
+        return ResponseEntity.ok(Map.of("deleted", deleted));
+    }
 }
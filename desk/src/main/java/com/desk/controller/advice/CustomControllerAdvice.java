@@ -1,8 +1,12 @@
 package com.desk.controller.advice;
 
+import com.desk.security.BoundedPasswordEncoder;
 import com.desk.util.CustomJWTException;
+import com.desk.util.InvalidStateTransitionException;
+import com.desk.util.KakaoUnavailableException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -40,4 +44,28 @@ public class CustomControllerAdvice {
 
       return ResponseEntity.ok().body(Map.of("error", msg));
   }
-}
\ No newline at end of file
+
+  // 상태 전이표상 바꿀 수 없는 상태변경 (예: DONE -> NEED_INFO)
+  @ExceptionHandler(InvalidStateTransitionException.class)
+  protected ResponseEntity<?> handleInvalidStateTransition(InvalidStateTransitionException e) {
+
+      return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("msg", e.getMessage()));
+  }
+
+  // 비밀번호 해시 대기열이 꽉 참 (회원가입/정보수정의 encode 도 로그인과 같은 대기열을 씀)
+  @ExceptionHandler(AuthenticationServiceException.class)
+  protected ResponseEntity<?> handleAuthenticationService(AuthenticationServiceException e) {
+
+      if (!BoundedPasswordEncoder.BUSY.equals(e.getMessage())) {
+          throw e;
+      }
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", BoundedPasswordEncoder.BUSY));
+  }
+
+  // 카카오 API 가 느리거나 장애 (타임아웃/5xx, 서킷 OPEN)
+  @ExceptionHandler(KakaoUnavailableException.class)
+  protected ResponseEntity<?> handleKakaoUnavailable(KakaoUnavailableException e) {
+
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", e.getMessage()));
+  }
+}
@@ -0,0 +1,47 @@
+package com.desk.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 받은함 목록 전용 (TicketPersonal 1줄 = InboxEntry 1줄, 목록에 보이는 Ticket 컬럼을 같이 들고 있음)
+// 목록 조회는 ticket 과 join 하지 않고 이 테이블만 (DB PK 는 (receiver, pno) --- 수신자별로 모여 있게, 실제 생성은 db/migration V5)
+// 원본은 TicketPersonal/Ticket, 값 변경은 InboxEntryRepository 의 insert/update/delete 쿼리로만 (엔티티로 직접 수정 X)
+@Entity
+@Table(name = "inbox_entry", indexes = {
+        @Index(name = "idx_inbox_entry_tno", columnList = "tno")
+})
+@Getter
+@ToString
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class InboxEntry {
+
+    // TicketPersonal.pno 와 같은 값
+    @Id
+    private Long pno;
+
+    @Column(nullable = false)
+    private String receiver;
+
+    @Column(nullable = false)
+    private Long tno;
+
+    private String title;
+
+    @Enumerated(EnumType.STRING)
+    private TicketGrade grade;
+
+    private LocalDateTime birth;
+    private LocalDateTime deadline;
+
+    private String writer;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TicketState state;
+
+    private boolean isread;
+}
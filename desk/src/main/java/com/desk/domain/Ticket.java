@@ -3,13 +3,21 @@ package com.desk.domain;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "ticket")
+// 보낸함 목록 (writer 로 찾고 tno 역순), 실제 생성은 db/migration
+@Table(name = "ticket", indexes = {
+        @Index(name = "idx_ticket_writer_tno", columnList = "writer, tno")
+})
+// 상세 조회용 2차 캐시 (config/TicketCacheConfig)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "ticket")
 @Getter
 @ToString(exclude = "personalList")
 @Builder
@@ -17,8 +25,10 @@ import java.util.List;
 @NoArgsConstructor
 public class Ticket {
 
+    // IDENTITY 는 insert 를 바로 날려야 해서 배치가 안 되므로 시퀀스 (50개씩 미리 받아둠)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_seq")
+    @SequenceGenerator(name = "ticket_seq", sequenceName = "ticket_seq", allocationSize = 50)
     private Long tno;
 
     private String title;
@@ -38,6 +48,7 @@ public class Ticket {
     // 각 수신인마다 읽었는지, 진행상태 어떤지가 다르므로 --> TicketPersonal로
     @OneToMany(mappedBy = "ticket", cascade = CascadeType.ALL, orphanRemoval = true)
     @BatchSize(size = 100) // N+1 방지 위한 batchSize
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "ticket.personals") // pno 목록만 캐시, 각 행은 TicketPersonal 캐시
     @Builder.Default
     private List<TicketPersonal> personalList = new ArrayList<>();
 
@@ -0,0 +1,29 @@
+package com.desk.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 받은함 배지용 개수 (받은이 1명당 1줄)
+// ticket_personal 을 매번 세지 않도록 티켓 생성/삭제, 읽음처리, 상태변경 때 같은 트랜잭션에서 같이 갱신
+// 값 변경은 TicketInboxCounterRepository 의 update 쿼리로만 (엔티티로 직접 수정 X)
+@Entity
+@Table(name = "ticket_inbox_counter")
+@Getter
+@ToString
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TicketInboxCounter {
+
+    @Id
+    private String receiver;
+
+    private long total;   // 받은 티켓 전체
+    private long unread;  // 안 읽은 티켓
+
+    // TicketState 별 개수
+    private long stateNew;
+    private long stateInProgress;
+    private long stateNeedInfo;
+    private long stateDone;
+}
@@ -2,9 +2,19 @@ package com.desk.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "ticket_personal")
+// 받은이별 일괄 변경/배지 재계산 (receiver 로 찾음), 실제 생성은 db/migration
+// 받은함 목록/필터 조회는 inbox_entry (InboxEntry) 에서
+@Table(name = "ticket_personal", indexes = {
+        @Index(name = "idx_tp_receiver_pno", columnList = "receiver, pno"),
+        @Index(name = "idx_tp_receiver_tno", columnList = "receiver, tp_tno")
+})
+// 상세 조회용 2차 캐시, 읽음/상태변경은 커밋 때 캐시도 같이 갱신
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "ticketPersonal")
 @Getter
 @ToString(exclude = "ticket")
 @Builder
@@ -12,8 +22,14 @@ import lombok.*;
 @NoArgsConstructor
 public class TicketPersonal {
 
+    // pno 시퀀스 블록 크기 (V4 의 INCREMENT BY 와 같아야 함, insert ... select 로 직접 넣을 때도 사용)
+    public static final int PNO_ALLOCATION = 500;
+
+    // 수신자 N명이 한 번에 insert 되도록 시퀀스
+    // 티켓 하나에 수신자가 수천 명일 수 있어서 500개씩 미리 받아둠 (시퀀스 조회 횟수 줄이기)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_personal_seq")
+    @SequenceGenerator(name = "ticket_personal_seq", sequenceName = "ticket_personal_seq", allocationSize = PNO_ALLOCATION)
     private Long pno;
 
     @ManyToOne(fetch = FetchType.LAZY) // 필요할 때만 내용 조회
@@ -26,6 +42,7 @@ public class TicketPersonal {
     private boolean isread = false;
 
     @Enumerated(EnumType.STRING)
+    @Column(nullable = false) // 예전 NULL 행은 V5 에서 NEW 로
     @Builder.Default
     private TicketState state = TicketState.NEW;
 
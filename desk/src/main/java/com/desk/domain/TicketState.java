@@ -1,9 +1,30 @@
 package com.desk.domain;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 // 현재 진행 상태
 public enum TicketState {
     NEW,
     IN_PROGRESS,
     NEED_INFO,
-    DONE
-}
\ No newline at end of file
+    DONE;
+
+    // 상태 전이표: 이 상태로 바꿀 수 있는 이전 상태 (상태변경 update 의 WHERE state IN (...))
+    // NEW 로 되돌리기는 안 됨, DONE 은 다시 진행중으로만 (재오픈)
+    private static final Map<TicketState, Set<TicketState>> PREDECESSORS = new EnumMap<>(TicketState.class);
+
+    static {
+        PREDECESSORS.put(NEW, Collections.unmodifiableSet(EnumSet.noneOf(TicketState.class)));
+        PREDECESSORS.put(IN_PROGRESS, Collections.unmodifiableSet(EnumSet.of(NEW, NEED_INFO, DONE)));
+        PREDECESSORS.put(NEED_INFO, Collections.unmodifiableSet(EnumSet.of(NEW, IN_PROGRESS)));
+        PREDECESSORS.put(DONE, Collections.unmodifiableSet(EnumSet.of(NEW, IN_PROGRESS, NEED_INFO)));
+    }
+
+    public Set<TicketState> predecessors() {
+        return PREDECESSORS.get(this);
+    }
+}
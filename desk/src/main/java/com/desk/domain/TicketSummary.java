@@ -0,0 +1,29 @@
+package com.desk.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 보낸함 진행 현황 (티켓 1건당 1줄)
+// 보낸함 목록에 수신자 행을 전부 싣지 않고 개수만 보여주도록 티켓 생성/삭제, 읽음처리, 상태변경 때 같은 트랜잭션에서 같이 갱신
+// 값 변경은 TicketSummaryRepository 의 update 쿼리로만 (엔티티로 직접 수정 X)
+@Entity
+@Table(name = "ticket_summary")
+@Getter
+@ToString
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TicketSummary {
+
+    @Id
+    private Long tno;
+
+    private long receivers; // 수신자 수
+    private long readCount; // 읽은 수신자 수
+
+    // TicketState 별 수신자 수
+    private long stateNew;
+    private long stateInProgress;
+    private long stateNeedInfo;
+    private long stateDone;
+}
@@ -0,0 +1,23 @@
+package com.desk.dto;
+
+import lombok.*;
+
+// 2차 캐시 영역별 통계 (GET /api/admin/cache)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsDTO {
+
+    private String region;
+
+    // 현재 들어있는 개수 (대략)
+    private long size;
+
+    private long hits;
+    private long misses;
+    private double hitRate;
+
+    // 개수 초과/만료로 빠진 개수
+    private long evictions;
+}
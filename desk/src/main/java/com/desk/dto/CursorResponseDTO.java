@@ -0,0 +1,36 @@
+package com.desk.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+public class CursorResponseDTO<E> {
+
+  // 한 번에 가져오는 최대 개수 (size 가 더 크면 여기까지만, 컨트롤러에서 맞춤)
+  public static final int MAX_SIZE = 100;
+
+  private List<E> dtoList;
+
+  // 다음 요청에 ?after= 로 넘길 값 (다음 페이지 없으면 null)
+  private Long nextCursor;
+
+  private boolean hasNext;
+
+  private int size;
+
+  // rows 는 size + 1 개까지 조회한 결과 --> 넘치는 1개로 다음 페이지 여부 판단
+  @Builder(builderMethodName = "withAll")
+  public CursorResponseDTO(List<E> rows, int size, Function<E, Long> cursorOf) {
+
+    this.size = size;
+    this.hasNext = rows.size() > size;
+    this.dtoList = hasNext ? rows.subList(0, size) : rows;
+
+    if (hasNext) {
+      this.nextCursor = cursorOf.apply(dtoList.get(dtoList.size() - 1));
+    }
+  }
+}
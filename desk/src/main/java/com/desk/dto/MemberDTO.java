@@ -1,31 +1,29 @@
 package com.desk.dto;
 
 import lombok.Getter;
-import lombok.Setter;
 import lombok.ToString;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 @Getter
-@Setter
 @ToString
 // User → Spring Security에서 제공하는 기본 인증 객체 (UserDetails 구현)
 // MemberDTO → DB 회원 정보 + Security 인증 정보 + JWT claims를 한 번에 담는 DTO
+// 검증된 토큰의 인증 정보로 여러 요청이 같이 쓰므로(JWTPrincipalCache) setter 없이 불변으로
 public class MemberDTO extends User {
 
-  private String email;
-  private String pw;
-  private String nickname;
-  private boolean social;
-  private String department; // 부서 정보 (String으로 처리)
-  private boolean approved;
-  private List<String> roleNames = new ArrayList<>();
+  private final String email;
+  private final String pw;
+  private final String nickname;
+  private final boolean social;
+  private final String department; // 부서 정보 (String으로 처리)
+  private final boolean approved;
+  private final List<String> roleNames;
 
   public MemberDTO(String email, String pw, String nickname, boolean social, String department, boolean approved, List<String> roleNames) {
     super(
@@ -39,7 +37,7 @@ public class MemberDTO extends User {
     this.social = social;
     this.department = department; 
      this.approved = approved;
-    this.roleNames = roleNames;
+    this.roleNames = List.copyOf(roleNames);
   }
 
   // JWT에 들어갈 정보 (Claims)
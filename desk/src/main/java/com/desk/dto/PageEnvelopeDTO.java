@@ -0,0 +1,83 @@
+package com.desk.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.io.IOException;
+import java.util.List;
+
+// 목록 API 페이지 응답 --- Page(PageImpl)를 그대로 내보내면 pageable/sort/first/last/empty 등이 매번 같이 나가서
+// {"content":[...],"page":{"size":10,"number":0,"totalElements":123,"totalPages":13}} 만 보냄
+// 조회 결과 content 는 복사하지 않고 그대로, JSON 은 Serializer 가 바로 씀 (필드 탐색/중간 Map 없음)
+@Getter
+@JsonSerialize(using = PageEnvelopeDTO.Serializer.class)
+public class PageEnvelopeDTO<E> {
+
+  private final List<E> content;
+
+  private final int size;
+
+  // 0부터 (요청 ?page= 와 같음)
+  private final int number;
+
+  private final long totalElements;
+
+  private final int totalPages;
+
+  private PageEnvelopeDTO(List<E> content, int size, int number, long totalElements, int totalPages) {
+    this.content = content;
+    this.size = size;
+    this.number = number;
+    this.totalElements = totalElements;
+    this.totalPages = totalPages;
+  }
+
+  public static <E> PageEnvelopeDTO<E> of(Page<E> page) {
+    return new PageEnvelopeDTO<>(page.getContent(), page.getSize(), page.getNumber(),
+            page.getTotalElements(), page.getTotalPages());
+  }
+
+  static class Serializer extends StdSerializer<PageEnvelopeDTO<?>> {
+
+    @SuppressWarnings("unchecked")
+    Serializer() {
+      super((Class<PageEnvelopeDTO<?>>) (Class<?>) PageEnvelopeDTO.class);
+    }
+
+    @Override
+    public void serialize(PageEnvelopeDTO<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeStartObject();
+
+      gen.writeArrayFieldStart("content");
+      // 목록은 같은 타입의 행이라 Serializer 는 한 번만 찾음
+      JsonSerializer<Object> rowSerializer = null;
+      Class<?> rowType = null;
+      for (Object row : value.content) {
+        if (row == null) {
+          gen.writeNull();
+          continue;
+        }
+        if (row.getClass() != rowType) {
+          rowType = row.getClass();
+          rowSerializer = provider.findValueSerializer(rowType);
+        }
+        rowSerializer.serialize(row, gen, provider);
+      }
+      gen.writeEndArray();
+
+      gen.writeObjectFieldStart("page");
+      gen.writeNumberField("size", value.size);
+      gen.writeNumberField("number", value.number);
+      gen.writeNumberField("totalElements", value.totalElements);
+      gen.writeNumberField("totalPages", value.totalPages);
+      gen.writeEndObject();
+
+      gen.writeEndObject();
+    }
+  }
+}
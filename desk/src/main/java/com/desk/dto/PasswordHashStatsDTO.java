@@ -0,0 +1,24 @@
+package com.desk.dto;
+
+import lombok.*;
+
+// 비밀번호 해시 전용 스레드 상태 (GET /api/admin/password-hash)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PasswordHashStatsDTO {
+
+    private int threads;
+    private int active;
+
+    // 대기 중인 로그인/가입 수와 최대치
+    private int queued;
+    private int queueCapacity;
+
+    private long completed;
+
+    // 대기열 초과 / 시간 초과로 LOGIN_BUSY 처리된 수
+    private long rejected;
+    private long timedOut;
+}
@@ -0,0 +1,28 @@
+package com.desk.dto;
+
+import lombok.*;
+
+// 읽음처리 write-behind 버퍼 상태 (GET /api/admin/read-receipts)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadReceiptStatsDTO {
+
+    // 아직 DB 에 반영 안 된 읽음처리 수와 지금까지 최대치
+    private int pending;
+    private int peakPending;
+
+    // 버퍼에 들어온 수 / flush 로 실제 바뀐 행 수
+    private long marked;
+    private long flushedRows;
+
+    // flush(배치 update) 횟수, 실패해서 다시 버퍼에 넣은 횟수
+    private long flushes;
+    private long failures;
+
+    // 배치 한 번 걸린 시간 (ms)
+    private long lastFlushMillis;
+    private long maxFlushMillis;
+    private double avgFlushMillis;
+}
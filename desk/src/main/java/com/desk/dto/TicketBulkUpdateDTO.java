@@ -0,0 +1,22 @@
+package com.desk.dto;
+
+import com.desk.domain.TicketState;
+import lombok.*;
+
+import java.util.List;
+
+// 받은함 일괄 읽음처리 / 일괄 상태변경 요청
+// pnos 를 주면 그 티켓들만, 없으면 filter 에 맞는 내 받은 티켓 전체
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketBulkUpdateDTO {
+
+    private List<Long> pnos;
+
+    private TicketFilterDTO filter;
+
+    // 상태변경에서만 사용
+    private TicketState state;
+}
@@ -1,5 +1,7 @@
 package com.desk.dto;
 
+import com.desk.domain.Department;
+import com.desk.domain.MemberRole;
 import com.desk.domain.TicketGrade;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.*;
@@ -30,4 +32,13 @@ public class TicketCreateDTO {
     // 수신인들
     @Builder.Default
     private List<String> receivers = new ArrayList<>();
+
+    // 전체 발송 (부서 또는 권한 기준, 둘 다 주면 둘 다 만족하는 사람)
+    // 이 중 하나라도 있으면 receivers 대신 승인된 회원 전체에서 찾아서 보냄
+    private Department department;
+    private MemberRole role;
+
+    public boolean isBroadcast() {
+        return department != null || role != null;
+    }
 }
@@ -0,0 +1,22 @@
+package com.desk.dto;
+
+import lombok.*;
+
+// 받은함 배지용 개수 (GET /api/tickets/received/counts)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketInboxCountDTO {
+
+    private String receiver;
+
+    private long total;
+    private long unread;
+
+    // TicketState 별
+    private long stateNew;
+    private long stateInProgress;
+    private long stateNeedInfo;
+    private long stateDone;
+}
@@ -0,0 +1,36 @@
+package com.desk.dto;
+
+import com.desk.domain.TicketGrade;
+import com.desk.domain.TicketState;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 받은함 목록 한 줄 (본문 content/purpose/requirement 는 상세 조회에서만)
+// QueryDSL Projections 로 필요한 컬럼만 바로 채움 (엔티티 X)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketReceivedRowDTO {
+
+    // TicketPersonal (나에게 부여된 row)
+    private Long pno;
+    private String receiver;
+    private boolean isread;
+    private TicketState state;
+
+    // Ticket (목록에 보이는 것만)
+    private Long tno;
+    private String title;
+    private TicketGrade grade;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm")
+    private LocalDateTime birth;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm")
+    private LocalDateTime deadline;
+
+    private String writer;
+}
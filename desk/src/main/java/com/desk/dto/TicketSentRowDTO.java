@@ -0,0 +1,39 @@
+package com.desk.dto;
+
+import com.desk.domain.TicketGrade;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 보낸함 목록 한 줄 (본문 content/purpose/requirement 는 상세 조회에서만)
+// QueryDSL Projections 로 필요한 컬럼만 바로 채움 (엔티티 X)
+// 수신자별 상태는 싣지 않고 진행 현황 개수만 (ticket_summary), 수신자 목록은 /api/tickets/sent/{tno}/receivers
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketSentRowDTO {
+
+    private Long tno;
+
+    private String title;
+
+    private TicketGrade grade;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm")
+    private LocalDateTime birth;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm")
+    private LocalDateTime deadline;
+
+    private String writer;
+
+    // 진행 현황 (수신자 수, 읽은 수, TicketState 별 수)
+    private long receiverCount;
+    private long readCount;
+    private long stateNew;
+    private long stateInProgress;
+    private long stateNeedInfo;
+    private long stateDone;
+}
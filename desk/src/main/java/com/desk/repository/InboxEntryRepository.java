@@ -0,0 +1,51 @@
+package com.desk.repository;
+
+import com.desk.domain.InboxEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+// 받은함 목록 테이블(inbox_entry) 갱신, 원본(ticket_personal/ticket)과 같은 트랜잭션에서 호출
+// 네이티브 쿼리는 바뀌는 테이블(inbox_entry)을 힌트로 알려줌 (2차 캐시를 전부 비우지 않게)
+// 힌트를 주면 자동 flush 도 그 테이블 기준이 되므로 ticket_personal 을 읽는 쿼리는 직접 flush
+public interface InboxEntryRepository extends JpaRepository<InboxEntry, Long> {
+
+    // 티켓 생성 후: 방금 저장된 수신자 행 + 티켓 목록 컬럼을 한 번에 복사
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "inbox_entry"))
+    @Query(value = "insert into inbox_entry (receiver, pno, tno, title, grade, birth, deadline, writer, state, isread) " +
+            "select tp.receiver, tp.pno, t.tno, t.title, t.grade, t.birth, t.deadline, t.writer, tp.state, tp.isread " +
+            "from ticket_personal tp join ticket t on t.tno = tp.tp_tno " +
+            "where tp.tp_tno = :tno and tp.receiver is not null",
+            nativeQuery = true)
+    int insertByTicket(@Param("tno") Long tno);
+
+    // 티켓 삭제 시 (tno 인덱스)
+    @Modifying
+    @Query("delete from InboxEntry e where e.tno in :tnos")
+    int deleteByTnos(@Param("tnos") Collection<Long> tnos);
+
+    // 읽음/상태변경 후: ticket_personal 에서 바뀐 값만 다시 맞춤 (필터 조건을 두 번 계산하지 않음)
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "inbox_entry"))
+    @Query(value = "update inbox_entry e join ticket_personal tp on tp.pno = e.pno " +
+            "set e.isread = tp.isread, e.state = tp.state " +
+            "where e.receiver = :receiver and (e.isread <> tp.isread or e.state <> tp.state)",
+            nativeQuery = true)
+    int syncFromPersonals(@Param("receiver") String receiver);
+
+    // pnos 를 알 때는 그 행만
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "inbox_entry"))
+    @Query(value = "update inbox_entry e join ticket_personal tp on tp.pno = e.pno " +
+            "set e.isread = tp.isread, e.state = tp.state " +
+            "where e.receiver = :receiver and e.pno in (:pnos) and (e.isread <> tp.isread or e.state <> tp.state)",
+            nativeQuery = true)
+    int syncFromPersonals(@Param("receiver") String receiver, @Param("pnos") Collection<Long> pnos);
+}
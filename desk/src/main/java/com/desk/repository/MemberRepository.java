@@ -1,6 +1,8 @@
 package com.desk.repository;
 
+import com.desk.domain.Department;
 import com.desk.domain.Member;
+import com.desk.domain.MemberRole;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -23,4 +25,20 @@ public interface MemberRepository extends JpaRepository<Member, String> {
     // 전체 직원 조회 (승인 완료 + 삭제 안 된 사람), 페이징
     @EntityGraph(attributePaths = {"memberRoleList"})
     Page<Member> findByIsApprovedTrueAndIsDeletedFalse(Pageable pageable);
+
+    // 토큰 차단 대상 (삭제됐거나 승인 안 된 회원), 서버 시작 시 TokenRevocationList 적재용
+    @Query("select m.email from Member m where m.isDeleted = true or m.isApproved = false")
+    List<String> findRevokedEmails();
+
+    // 전체 발송 대상 이메일 (승인 + 삭제 안 됨 + 부서/권한), email 순서로 after 다음부터 끊어서 조회
+    // department, role 이 null 이면 그 조건은 빼고
+    @Query("select m.email from Member m " +
+            "where m.isApproved = true and m.isDeleted = false " +
+            "and (:department is null or m.department = :department) " +
+            "and (:role is null or :role member of m.memberRoleList) " +
+            "and m.email > :after order by m.email")
+    List<String> findBroadcastEmails(@Param("department") Department department,
+                                     @Param("role") MemberRole role,
+                                     @Param("after") String after,
+                                     Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,146 @@
+package com.desk.repository;
+
+import com.desk.domain.TicketGrade;
+import com.desk.domain.TicketState;
+import com.desk.dto.TicketFilterDTO;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/*
+ * 받은함/보낸함 목록의 전체 개수(count 쿼리) 캐시입니다.
+ * (받은이 또는 보낸이, 필터) 단위로 저장하고, 티켓 생성/삭제/상태변경/읽음처리 때 해당 사람 것만 지웁니다.
+ * 여러 서버로 띄우는 경우를 대비해서 TTL 도 짧게 걸어둠.
+ */
+@Component
+public class TicketCountCache {
+
+    public enum Box { INBOX, SENT }
+
+    private static final long TTL_MILLIS = 60_000;
+    private static final int MAX_ENTRIES = 10_000;
+    private static final int MAX_GENERATIONS = 100_000;
+
+    private final Map<CountKey, Entry> entries = new ConcurrentHashMap<>();
+
+    // 사람별 세대 번호 --- 무효화될 때마다 증가, count 계산 도중 무효화되면 그 결과는 저장하지 않음
+    // 무효화(evict)할 때만 생김, 조회는 없으면 0 으로 보고 넣지 않음 (요청 파라미터로 아무 값이나 와도 안 늘어남)
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    // 함 전체 세대 번호 (전체 발송처럼 누가 바뀌었는지 일일이 모를 때)
+    private final Map<Box, AtomicLong> boxGenerations = new ConcurrentHashMap<>();
+
+    // 세대 번호를 미리 잡아둠 --- 목록 트랜잭션의 첫 쿼리(스냅샷이 생기는 시점)보다 먼저 호출해야 함
+    // 그 뒤에 커밋된 변경은 세대 번호가 바뀌어서 옛 스냅샷으로 센 개수를 저장하지 않음
+    public Stamp stamp(Box box, String owner) {
+        return new Stamp(box, owner, currentGeneration(box, owner), boxGeneration(box).get());
+    }
+
+    // 캐시에 있으면 그대로, 없으면 countQuery 실행 후 저장 (stamp 이후 무효화됐으면 저장 안 함)
+    public long get(Stamp stamp, TicketFilterDTO filter, Supplier<Long> countQuery) {
+        CountKey key = CountKey.of(stamp.box(), stamp.owner(), filter);
+        long now = System.currentTimeMillis();
+
+        Entry cached = entries.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.count();
+        }
+
+        Long count = countQuery.get();
+        long result = (count == null) ? 0L : count;
+
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.clear();
+        }
+        if (currentGeneration(stamp.box(), stamp.owner()) == stamp.generation()
+                && boxGeneration(stamp.box()).get() == stamp.boxGeneration()) {
+            entries.put(key, new Entry(result, now + TTL_MILLIS));
+        }
+        return result;
+    }
+
+    // 트랜잭션 안이면 커밋 이후에 지움 (커밋 전에 지우면 다른 요청이 옛날 개수를 다시 넣을 수 있음)
+    public void evict(Box box, String owner) {
+        evict(box, Set.of(owner));
+    }
+
+    // 수신자가 많은 티켓도 커밋 후 작업 1개, 캐시 전체 훑기 1번으로 처리
+    public void evict(Box box, Collection<String> owners) {
+        Set<String> targets = new HashSet<>(owners);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(box, targets);
+                }
+            });
+            return;
+        }
+        evictNow(box, targets);
+    }
+
+    // 함 전체 무효화 (전체 발송 등), 마찬가지로 커밋 이후
+    public void evictAll(Box box) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictAllNow(box);
+                }
+            });
+            return;
+        }
+        evictAllNow(box);
+    }
+
+    private void evictAllNow(Box box) {
+        boxGeneration(box).incrementAndGet();
+        entries.keySet().removeIf(key -> key.box() == box);
+    }
+
+    private void evictNow(Box box, Set<String> owners) {
+        // 너무 많아지면 비우고 함 전체 세대를 올림 (비운 사람의 세대가 0 으로 돌아가도 계산 중인 개수는 저장 안 되게)
+        if (generations.size() >= MAX_GENERATIONS) {
+            boxGenerations.values().forEach(AtomicLong::incrementAndGet);
+            generations.clear();
+        }
+        owners.forEach(owner -> generations.computeIfAbsent(key(box, owner), k -> new AtomicLong()).incrementAndGet());
+        entries.keySet().removeIf(key -> key.box() == box && owners.contains(key.owner()));
+    }
+
+    private long currentGeneration(Box box, String owner) {
+        AtomicLong generation = generations.get(key(box, owner));
+        return generation == null ? 0L : generation.get();
+    }
+
+    private static String key(Box box, String owner) {
+        return box + ":" + owner;
+    }
+
+    private AtomicLong boxGeneration(Box box) {
+        return boxGenerations.computeIfAbsent(box, k -> new AtomicLong());
+    }
+
+    // 목록 조회 시작 때의 세대 번호
+    public record Stamp(Box box, String owner, long generation, long boxGeneration) {}
+
+    private record Entry(long count, long expiresAt) {}
+
+    // TicketFilterDTO 는 값이 바뀔 수 있는 객체라 키로는 값만 복사해서 씀
+    private record CountKey(Box box, String owner, TicketGrade grade, Boolean read, TicketState state, String keyword) {
+        static CountKey of(Box box, String owner, TicketFilterDTO filter) {
+            if (filter == null) {
+                return new CountKey(box, owner, null, null, null, null);
+            }
+            String keyword = (filter.getKeyword() == null || filter.getKeyword().isBlank()) ? null : filter.getKeyword();
+            return new CountKey(box, owner, filter.getGrade(), filter.getRead(), filter.getState(), keyword);
+        }
+    }
+}
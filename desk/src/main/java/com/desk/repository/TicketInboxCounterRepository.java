@@ -0,0 +1,97 @@
+package com.desk.repository;
+
+import com.desk.domain.TicketInboxCounter;
+import com.desk.dto.TicketInboxCountDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Optional;
+
+// 네이티브 update 는 어떤 테이블이 바뀌는지 하이버네이트가 몰라서 2차 캐시를 전부 비우므로
+// 바뀌는 테이블(ticket_inbox_counter)을 힌트로 알려줌
+// 힌트를 주면 자동 flush 도 그 테이블 기준이 되므로 ticket_personal 을 읽는 쿼리는 직접 flush
+public interface TicketInboxCounterRepository extends JpaRepository<TicketInboxCounter, String> {
+
+    // 배지 조회 (PK 한 번), 엔티티가 아니라 DTO 로 바로 받아서 영속성 컨텍스트의 옛날 값이 섞이지 않음
+    @Query("select new com.desk.dto.TicketInboxCountDTO(c.receiver, c.total, c.unread, " +
+            "c.stateNew, c.stateInProgress, c.stateNeedInfo, c.stateDone) " +
+            "from TicketInboxCounter c where c.receiver = :receiver")
+    Optional<TicketInboxCountDTO> findCounts(@Param("receiver") String receiver);
+
+    // 티켓 생성 후: 해당 티켓의 수신자별로 더하기 (처음 받는 사람은 줄 생성)
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "ticket_inbox_counter"))
+    @Query(value = "insert into ticket_inbox_counter " +
+            "(receiver, total, unread, state_new, state_in_progress, state_need_info, state_done) " +
+            "select tp.receiver, count(*), sum(tp.isread = 0), sum(tp.state = 'NEW'), sum(tp.state = 'IN_PROGRESS'), " +
+            "sum(tp.state = 'NEED_INFO'), sum(tp.state = 'DONE') " +
+            "from ticket_personal tp where tp.tp_tno = :tno and tp.receiver is not null group by tp.receiver " +
+            "on duplicate key update total = total + values(total), unread = unread + values(unread), " +
+            "state_new = state_new + values(state_new), state_in_progress = state_in_progress + values(state_in_progress), " +
+            "state_need_info = state_need_info + values(state_need_info), state_done = state_done + values(state_done)",
+            nativeQuery = true)
+    int increaseByTicket(@Param("tno") Long tno);
+
+    // 티켓 삭제 전: 해당 티켓들의 수신자별로 빼기 (ticket_personal 이 지워지기 전에 호출해야 함)
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "ticket_inbox_counter"))
+    @Query(value = "update ticket_inbox_counter c join (" +
+            "select tp.receiver, count(*) total, sum(tp.isread = 0) unread, sum(tp.state = 'NEW') state_new, " +
+            "sum(tp.state = 'IN_PROGRESS') state_in_progress, sum(tp.state = 'NEED_INFO') state_need_info, " +
+            "sum(tp.state = 'DONE') state_done " +
+            "from ticket_personal tp where tp.tp_tno in (:tnos) and tp.receiver is not null group by tp.receiver" +
+            ") d on c.receiver = d.receiver " +
+            "set c.total = c.total - d.total, c.unread = c.unread - d.unread, c.state_new = c.state_new - d.state_new, " +
+            "c.state_in_progress = c.state_in_progress - d.state_in_progress, " +
+            "c.state_need_info = c.state_need_info - d.state_need_info, c.state_done = c.state_done - d.state_done",
+            nativeQuery = true)
+    int decreaseByTickets(@Param("tnos") Collection<Long> tnos);
+
+    // 읽음처리 (안 읽음 -> 읽음 으로 바뀐 개수만큼)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "ticket_inbox_counter"))
+    @Query(value = "update ticket_inbox_counter set unread = greatest(unread - :count, 0) where receiver = :receiver",
+            nativeQuery = true)
+    int decreaseUnread(@Param("receiver") String receiver, @Param("count") long count);
+
+    // 단건 읽음/상태변경 후, 받은함 목록(inbox_entry)을 맞추기 전에 호출
+    // inbox_entry(이전 값) 와 ticket_personal(새 값) 이 다른 행만 차이를 더함 (이전 상태를 따로 조회하지 않음)
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "ticket_inbox_counter"))
+    @Query(value = "update ticket_inbox_counter c join (" +
+            "select e.receiver, sum(tp.isread = 0) - sum(e.isread = 0) unread, " +
+            "sum(tp.state = 'NEW') - sum(e.state = 'NEW') state_new, " +
+            "sum(tp.state = 'IN_PROGRESS') - sum(e.state = 'IN_PROGRESS') state_in_progress, " +
+            "sum(tp.state = 'NEED_INFO') - sum(e.state = 'NEED_INFO') state_need_info, " +
+            "sum(tp.state = 'DONE') - sum(e.state = 'DONE') state_done " +
+            "from inbox_entry e join ticket_personal tp on tp.pno = e.pno " +
+            "where e.receiver = :receiver and e.pno in (:pnos) and (e.isread <> tp.isread or e.state <> tp.state) " +
+            "group by e.receiver" +
+            ") d on c.receiver = d.receiver " +
+            "set c.unread = c.unread + d.unread, c.state_new = c.state_new + d.state_new, " +
+            "c.state_in_progress = c.state_in_progress + d.state_in_progress, " +
+            "c.state_need_info = c.state_need_info + d.state_need_info, c.state_done = c.state_done + d.state_done",
+            nativeQuery = true)
+    int applyChanges(@Param("receiver") String receiver, @Param("pnos") Collection<Long> pnos);
+
+    // 받은이 1명 기준으로 ticket_personal 에서 다시 세기 (일괄 상태변경처럼 이전 상태가 섞여 있을 때)
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "ticket_inbox_counter"))
+    @Query(value = "insert into ticket_inbox_counter " +
+            "(receiver, total, unread, state_new, state_in_progress, state_need_info, state_done) " +
+            "select :receiver, count(*), coalesce(sum(tp.isread = 0), 0), coalesce(sum(tp.state = 'NEW'), 0), " +
+            "coalesce(sum(tp.state = 'IN_PROGRESS'), 0), coalesce(sum(tp.state = 'NEED_INFO'), 0), " +
+            "coalesce(sum(tp.state = 'DONE'), 0) " +
+            "from ticket_personal tp where tp.receiver = :receiver " +
+            "on duplicate key update total = values(total), unread = values(unread), " +
+            "state_new = values(state_new), state_in_progress = values(state_in_progress), " +
+            "state_need_info = values(state_need_info), state_done = values(state_done)",
+            nativeQuery = true)
+    int recount(@Param("receiver") String receiver);
+}
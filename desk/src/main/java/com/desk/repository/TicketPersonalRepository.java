@@ -1,27 +1,66 @@
 package com.desk.repository;
 
+import com.desk.domain.Department;
+import com.desk.domain.MemberRole;
+import com.desk.domain.Ticket;
 import com.desk.domain.TicketPersonal;
+import com.desk.domain.TicketState;
 import com.desk.dto.TicketFilterDTO;
+import com.desk.dto.TicketReceivedRowDTO;
+import com.desk.dto.TicketStateDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TicketPersonalRepository extends JpaRepository<TicketPersonal, Long> {
 
-    // Tno와 받은 이를 가지고 pno를 찾는 쿼리
-    @Query("select tp.pno from TicketPersonal tp where tp.receiver = :receiver and tp.ticket.tno = :tno")
-    Optional<Long> findPnoByReceiverAndTno(@Param("receiver") String receiver, @Param("tno") Long tno);
+    // tno 로 받은 티켓 상세 조회 --- 소유 확인까지 where 에 넣고 티켓 내용도 같이 (idx_tp_receiver_tno, 쿼리 한 번)
+    // 남의 것이면 없는 것과 똑같이 빈 값
+    @Query("select tp from TicketPersonal tp join fetch tp.ticket t where tp.receiver = :receiver and t.tno = :tno")
+    Optional<TicketPersonal> findInboxByReceiverAndTno(@Param("receiver") String receiver, @Param("tno") Long tno);
     
     // 삭제 검증용 (테스트)
     long countByTicket_Tno(Long tno);
-    
+
+    // 상태변경이 안 됐을 때 이유 확인용 (2차 캐시를 거치지 않고 DB 의 지금 값)
+    @Query("select new com.desk.dto.TicketStateDTO(tp.pno, tp.receiver, tp.isread, tp.state) " +
+            "from TicketPersonal tp where tp.pno = :pno")
+    Optional<TicketStateDTO> findStateByPno(@Param("pno") Long pno);
+
+    // 티켓 삭제 시 개수 캐시를 지울 수신자 목록 (엔티티 말고 이름만)
+    @Query("select distinct tp.receiver from TicketPersonal tp where tp.ticket.tno in :tnos")
+    List<String> findReceiversByTnos(@Param("tnos") Collection<Long> tnos);
+
+    // 보낸 티켓의 수신자별 상태 (페이징, tp_tno 인덱스), 전체 개수는 ticket_summary 에서 한 줄로
+    @Query(value = "select new com.desk.dto.TicketStateDTO(tp.pno, tp.receiver, tp.isread, tp.state) " +
+            "from TicketPersonal tp where tp.ticket.tno = :tno",
+            countQuery = "select s.receivers from TicketSummary s where s.tno = :tno")
+    Page<TicketStateDTO> findReceiverStates(@Param("tno") Long tno, Pageable pageable);
+
     // QueryDSL 동적 쿼리 메서드
-    // 페이지 조회
-    Page<TicketPersonal> findAllWithTicket(String receiver, TicketFilterDTO filter, Pageable pageable);
-    // 단건 조회
-    Optional<TicketPersonal> findWithTicketByPno(Long pno);
+    // 페이지 조회 (목록은 Projections 로 목록 컬럼만, 본문 X)
+    Page<TicketReceivedRowDTO> findReceivedRows(String receiver, TicketFilterDTO filter, Pageable pageable);
+    // 슬라이스 조회 (count 없이 다음 페이지 여부만)
+    Slice<TicketReceivedRowDTO> findReceivedRowSlice(String receiver, TicketFilterDTO filter, Pageable pageable);
+    // 커서 조회 (pno < after, size + 1 개까지)
+    List<TicketReceivedRowDTO> findReceivedRowsAfter(String receiver, TicketFilterDTO filter, Long after, int size);
+    // 일괄 읽음처리 / 상태변경 (update 한 번, receiver 소유만), 바뀐 개수 반환
+    long bulkMarkRead(String receiver, List<Long> pnos, TicketFilterDTO filter);
+    long bulkChangeState(String receiver, List<Long> pnos, TicketFilterDTO filter, TicketState state);
+    // 티켓 삭제 시 수신자 행 삭제 (한 건씩 말고 delete 한 번, 지운 행만 캐시에서 비움), 지운 행 수
+    int deleteByTnos(Collection<Long> tnos);
+    // 읽음처리 모아서 반영 (ReadReceiptBuffer, 소유 확인은 버퍼에 넣을 때), 바뀐 행 수
+    int markReadAll(Collection<Long> pnos);
+    // 단건 상태변경 (조회 없이 update 한 번, receiver 소유 + 조건이 맞을 때만), 바뀌면 1
+    int compareAndSetState(Long pno, String receiver, TicketState state, Collection<TicketState> from);
+    // 전체 발송 --- 수신자 묶음 insert (flush/clear 포함), 회원 테이블에서 바로 insert ... select
+    void insertPersonals(Ticket ticket, List<String> receivers);
+    long insertBroadcast(Long tno, Department department, MemberRole role);
 }
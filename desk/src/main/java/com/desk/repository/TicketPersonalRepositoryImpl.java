@@ -1,90 +1,391 @@
 package com.desk.repository;
 
+import com.desk.domain.Department;
+import com.desk.domain.MemberRole;
+import com.desk.domain.QInboxEntry;
 import com.desk.domain.QTicket;
 import com.desk.domain.QTicketPersonal;
+import com.desk.domain.Ticket;
 import com.desk.domain.TicketPersonal;
+import com.desk.domain.TicketState;
 import com.desk.dto.TicketFilterDTO;
+import com.desk.dto.TicketReceivedRowDTO;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QBean;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 @RequiredArgsConstructor
 public class TicketPersonalRepositoryImpl { // 구현체입니다
 
     // 쿼리팩토리 사용 (QueryDSL, 동적쿼리)
     private final JPAQueryFactory queryFactory;
+    // 전체 개수 캐시 (쓰기 작업에서 무효화)
+    private final TicketCountCache countCache;
+    // 키워드 검색용 역색인 (후보 tno)
+    private final TicketSearchIndex searchIndex;
+    // 전체 발송에서 끊어서 flush/clear, insert ... select 용
+    private final EntityManager em;
+
+    // 일괄 update 의 IN 절 한 번에 넣는 pno 수
+    private static final int UPDATE_CHUNK = 1000;
     
-    public Page<TicketPersonal> findAllWithTicket(String receiver, TicketFilterDTO filter, Pageable pageable) {
+    // 목록에 보이는 컬럼만 DTO 로 바로 조회 (content/purpose/requirement 는 상세에서만, 영속성 컨텍스트에도 안 올라감)
+    // 받은함 목록 테이블(inbox_entry)만 읽음 --- ticket join 없이 PK(receiver, pno) 범위로
+    public Page<TicketReceivedRowDTO> findReceivedRows(String receiver, TicketFilterDTO filter, Pageable pageable) {
         // 쿼리DSL 객체
+        QInboxEntry entry = QInboxEntry.inboxEntry;
+
+        // 동적쿼리 조건 붙이는 빌더
+        BooleanBuilder builder = filterCondition(receiver, filter);
+
+        // 개수 캐시 세대 번호는 목록 쿼리(트랜잭션 스냅샷)보다 먼저
+        TicketCountCache.Stamp stamp = countCache.stamp(TicketCountCache.Box.INBOX, receiver);
+
+        // 실제 목록 조회 (필요한 컬럼만 select)
+        List<TicketReceivedRowDTO> content = queryFactory
+                .select(receivedRow(entry))
+                .from(entry)
+                .where(builder)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(entry.pno.desc())
+                .fetch();
+
+        // 전체 몇 개인지 세기
+        JPAQuery<Long> countQuery = queryFactory
+                .select(entry.count())
+                .from(entry)
+                .where(builder);
+
+        // 마지막 페이지처럼 개수를 알 수 있으면 count 생략, 필요하면 캐시 먼저 확인
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> countCache.get(stamp, filter, countQuery::fetchOne));
+    }
+
+    // 슬라이스 조회 (무한스크롤용)
+    // count 쿼리 없이 size + 1 개 가져와서 다음 페이지 여부만 판단
+    public Slice<TicketReceivedRowDTO> findReceivedRowSlice(String receiver, TicketFilterDTO filter, Pageable pageable) {
+        QInboxEntry entry = QInboxEntry.inboxEntry;
+
+        List<TicketReceivedRowDTO> content = queryFactory
+                .select(receivedRow(entry))
+                .from(entry)
+                .where(filterCondition(receiver, filter))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
+                .orderBy(entry.pno.desc())
+                .fetch();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    // 커서(키셋) 조회
+    // offset 으로 앞 페이지들을 버리지 않고 pno < after 로 바로 찾아감 (after 가 null 이면 처음부터)
+    // 다음 페이지가 있는지 알기 위해 size + 1 개까지 가져옴
+    public List<TicketReceivedRowDTO> findReceivedRowsAfter(String receiver, TicketFilterDTO filter, Long after, int size) {
+        QInboxEntry entry = QInboxEntry.inboxEntry;
+
+        BooleanBuilder builder = filterCondition(receiver, filter);
+        if (after != null) {
+            builder.and(entry.pno.lt(after));
+        }
+
+        return queryFactory
+                .select(receivedRow(entry))
+                .from(entry)
+                .where(builder)
+                .orderBy(entry.pno.desc())
+                .limit(size + 1)
+                .fetch();
+    }
+
+    // 일괄 읽음처리 --- 조건에 맞는 pno 를 먼저 고르고 그 행만 update (내 것 + 안 읽은 것만), 바뀐 개수 반환
+    // pnos 가 있으면 그 티켓들만, 없으면 filter 조건 전체
+    // 바뀐 행만 2차 캐시에서 비우려고 pno 를 먼저 읽음 (update 는 UPDATE_CHUNK 개씩)
+    public long bulkMarkRead(String receiver, List<Long> pnos, TicketFilterDTO filter) {
+        QTicketPersonal tp = QTicketPersonal.ticketPersonal;
+
+        BooleanBuilder builder = bulkCondition(receiver, pnos, filter);
+        builder.and(tp.isread.isFalse());
+
+        List<Long> targets = queryFactory
+                .select(tp.pno)
+                .from(tp)
+                .where(builder)
+                .fetch();
+
+        long updated = 0;
+        for (int from = 0; from < targets.size(); from += UPDATE_CHUNK) {
+            updated += markReadAll(targets.subList(from, Math.min(from + UPDATE_CHUNK, targets.size())));
+        }
+        return updated;
+    }
+
+    // 일괄 상태변경 --- 조건에 맞는 pno 를 먼저 고르고 그 행만 update (내 것 + 전이표상 바꿀 수 있는 상태만), 바뀐 개수 반환
+    // 고른 뒤 다른 요청이 상태를 바꿨을 수 있으므로 update 에서 이전 상태를 다시 확인
+    public long bulkChangeState(String receiver, List<Long> pnos, TicketFilterDTO filter, TicketState state) {
+        QTicketPersonal tp = QTicketPersonal.ticketPersonal;
+        if (state.predecessors().isEmpty()) {
+            return 0;
+        }
+
+        BooleanBuilder builder = bulkCondition(receiver, pnos, filter);
+        builder.and(tp.state.in(state.predecessors()));
+
+        List<Long> targets = queryFactory
+                .select(tp.pno)
+                .from(tp)
+                .where(builder)
+                .fetch();
+
+        long updated = 0;
+        for (int from = 0; from < targets.size(); from += UPDATE_CHUNK) {
+            List<Long> chunk = targets.subList(from, Math.min(from + UPDATE_CHUNK, targets.size()));
+            Query update = em.createNativeQuery("update ticket_personal set state = :state " +
+                    "where pno in (:pnos) and state in (:from)");
+            update.setParameter("state", state.name());
+            update.setParameter("pnos", chunk);
+            update.setParameter("from", state.predecessors().stream().map(Enum::name).toList());
+            updated += updateRows(chunk, update);
+        }
+        return updated;
+    }
+
+    // 티켓 삭제 시 수신자 행 삭제 --- delete 한 번, 지운 행만 2차 캐시에서 비움 (pno 는 tp_tno 인덱스로 먼저 읽음)
+    public int deleteByTnos(Collection<Long> tnos) {
         QTicketPersonal tp = QTicketPersonal.ticketPersonal;
+        if (tnos.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> targets = queryFactory
+                .select(tp.pno)
+                .from(tp)
+                .where(tp.ticket.tno.in(tnos))
+                .fetch();
+
+        Query delete = em.createNativeQuery("delete from ticket_personal where tp_tno in (:tnos)");
+        delete.setParameter("tnos", tnos);
+        return updateRows(targets, delete);
+    }
+
+    // 읽음처리 모아서 반영 --- update ... where pno in (...) 한 번 (안 읽은 것만), 바뀐 행 수
+    public int markReadAll(Collection<Long> pnos) {
+        if (pnos.isEmpty()) {
+            return 0;
+        }
+        Query update = em.createNativeQuery("update ticket_personal set isread = true " +
+                "where pno in (:pnos) and isread = false");
+        update.setParameter("pnos", pnos);
+        return updateRows(pnos, update);
+    }
+
+    // 단건 상태변경 --- compare-and-set (지금 상태가 전이표의 이전 상태 중 하나일 때만), 바뀌면 1
+    // 동시에 눌러도 행 락을 잡은 뒤 조건을 다시 보므로 나중 요청은 바뀐 상태 기준으로 판단됨
+    public int compareAndSetState(Long pno, String receiver, TicketState state, Collection<TicketState> from) {
+        if (from.isEmpty()) {
+            return 0;
+        }
+        Query update = em.createNativeQuery("update ticket_personal set state = :state " +
+                "where pno = :pno and receiver = :receiver and state in (:from)");
+        update.setParameter("state", state.name());
+        update.setParameter("pno", pno);
+        update.setParameter("receiver", receiver);
+        update.setParameter("from", from.stream().map(Enum::name).toList());
+        return updateRows(List.of(pno), update);
+    }
+
+    // pno 로 정해진 행만 update/delete
+    // JPQL/ticket_personal 힌트로 update 하면 ticketPersonal 캐시 영역 전체 + 티켓별 수신자 목록 캐시까지 비워지므로
+    // 캐시와 관계없는 이름을 힌트로 주고 해당 행만 직접 비움 (커밋 전에 다른 요청이 옛날 값을 다시 넣을 수 있어서 커밋 후에도)
+    // 같은 트랜잭션에서 이미 읽어둔 엔티티가 옛날 값으로 남지 않도록 update 후 영속성 컨텍스트도 비움
+    private int updateRows(Collection<Long> pnos, Query update) {
+        em.flush();
+        update.setHint(HibernateHints.HINT_NATIVE_SPACES, "ticket_personal_row");
+        int updated = update.executeUpdate();
+        if (updated > 0) {
+            em.clear();
+            Cache cache = em.getEntityManagerFactory().getCache();
+            pnos.forEach(pno -> cache.evict(TicketPersonal.class, pno));
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        pnos.forEach(pno -> cache.evict(TicketPersonal.class, pno));
+                    }
+                });
+            }
+        }
+        return updated;
+    }
+
+    // 수신자 묶음 insert (전체 발송에서 회원을 끊어 읽은 만큼씩)
+    // 묶음마다 flush(배치 insert) 후 clear 해서 수신자가 몇 명이든 영속성 컨텍스트가 커지지 않게 함
+    public void insertPersonals(Ticket ticket, List<String> receivers) {
+        for (String receiver : receivers) {
+            em.persist(TicketPersonal.builder()
+                    .ticket(ticket)
+                    .receiver(receiver)
+                    .build());
+        }
+        em.flush();
+        em.clear();
+    }
+
+    // 전체 발송 빠른 경로 --- 회원 테이블에서 바로 insert ... select (수신자를 애플리케이션으로 가져오지 않음)
+    // pno 는 시퀀스 블록(PNO_ALLOCATION 개)을 필요한 만큼 먼저 받아두고 row_number 로 블록 안에서 나눠 씀
+    // 반환값은 넣은 행 수
+    public long insertBroadcast(Long tno, Department department, MemberRole role) {
+        StringBuilder where = new StringBuilder("m.is_approved = true and m.is_deleted = false");
+        if (department != null) {
+            where.append(" and m.department = :department");
+        }
+        if (role != null) {
+            where.append(" and exists (select 1 from member_member_role_list r " +
+                    "where r.member_email = m.email and r.member_role_list = :role)");
+        }
+
+        Query count = em.createNativeQuery("select count(*) from member m where " + where);
+        bindBroadcast(count, department, role);
+        long total = ((Number) count.getSingleResult()).longValue();
+        if (total == 0) {
+            return 0;
+        }
+
+        // 블록 시작값들 (동시에 다른 insert 가 있어도 블록 단위라 겹치지 않음)
+        StringBuilder blocks = new StringBuilder();
+        long blockCount = (total + TicketPersonal.PNO_ALLOCATION - 1) / TicketPersonal.PNO_ALLOCATION;
+        for (int i = 0; i < blockCount; i++) {
+            long start = ((Number) em.createNativeQuery("select next value for ticket_personal_seq")
+                    .getSingleResult()).longValue();
+            blocks.append(i == 0 ? "" : " union all ")
+                    .append("select ").append(i).append(" idx, ").append(start).append(" start");
+        }
+
+        // count 이후에 늘어난 회원은 블록 join 에서 빠짐 (발송 직후 가입한 것과 같음)
+        Query insert = em.createNativeQuery(
+                "insert into ticket_personal (pno, isread, receiver, state, tp_tno) " +
+                "select b.start + (t.rn mod " + TicketPersonal.PNO_ALLOCATION + "), false, t.email, 'NEW', :tno " +
+                "from (select m.email, row_number() over (order by m.email) - 1 rn from member m where " + where + ") t " +
+                "join (" + blocks + ") b on b.idx = t.rn div " + TicketPersonal.PNO_ALLOCATION);
+        bindBroadcast(insert, department, role);
+        insert.setParameter("tno", tno);
+        // 2차 캐시는 ticket_personal 관련 영역만 비우게 (힌트 없으면 전부 비움)
+        insert.setHint(HibernateHints.HINT_NATIVE_SPACES, "ticket_personal");
+        return insert.executeUpdate();
+    }
+
+    private void bindBroadcast(Query query, Department department, MemberRole role) {
+        if (department != null) {
+            query.setParameter("department", department.name());
+        }
+        if (role != null) {
+            // member_member_role_list 는 ordinal 로 저장됨
+            query.setParameter("role", role.ordinal());
+        }
+    }
+
+    // 받은함 목록 한 줄에 필요한 컬럼 (전부 inbox_entry 에 있음)
+    private QBean<TicketReceivedRowDTO> receivedRow(QInboxEntry entry) {
+        return Projections.fields(TicketReceivedRowDTO.class,
+                entry.pno, entry.receiver, entry.isread, entry.state,
+                entry.tno, entry.title, entry.grade, entry.birth, entry.deadline, entry.writer);
+    }
+
+    // 받은함 공통 조건 (receiver + TicketFilterDTO)
+    private BooleanBuilder filterCondition(String receiver, TicketFilterDTO filter) {
+        QInboxEntry entry = QInboxEntry.inboxEntry;
         QTicket ticket = QTicket.ticket;
 
-        // 동적쿼리 조건 붙이는 빌더
         BooleanBuilder builder = new BooleanBuilder();
-        builder.and(tp.receiver.eq(receiver));
+        builder.and(entry.receiver.eq(receiver));
 
         // TicketFilterDTO 있다면 = 필터링 했다면
         if (filter != null) {
             if (filter.getState() != null) {
-                builder.and(tp.state.eq(filter.getState()));
+                builder.and(entry.state.eq(filter.getState()));
             }
             if (filter.getRead() != null) {
-                builder.and(tp.isread.eq(filter.getRead()));
+                builder.and(entry.isread.eq(filter.getRead()));
             }
             if (filter.getGrade() != null) {
-                builder.and(ticket.grade.eq(filter.getGrade()));
+                builder.and(entry.grade.eq(filter.getGrade()));
             }
             if (filter.getKeyword() != null && !filter.getKeyword().isBlank()) {
+                // 역색인에서 후보 tno 를 받으면 그 티켓들로 좁힌 뒤 LIKE 로 확인 (전체 스캔 방지)
+                searchIndex.candidates(filter.getKeyword())
+                        .ifPresent(tnos -> builder.and(entry.tno.in(tnos)));
+
+                // 본문(content)은 inbox_entry 에 없어서 제목에 없을 때만 ticket 을 PK 로 확인
                 String keyword = "%" + filter.getKeyword() + "%";
-                builder.and(ticket.title.like(keyword).or(ticket.content.like(keyword)));
+                builder.and(entry.title.like(keyword).or(JPAExpressions.selectOne()
+                        .from(ticket)
+                        .where(ticket.tno.eq(entry.tno), ticket.content.like(keyword))
+                        .exists()));
             }
         } // 조건 붙이기
 
-        // 실제 목록 조회 + fetchJoin
-        List<TicketPersonal> content = queryFactory
-                .selectFrom(tp)
-                .join(tp.ticket, ticket).fetchJoin()
-                .where(builder)
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .orderBy(tp.pno.desc())
-                .fetch();
-
-        // 전체 몇 개인지 세기
-        JPAQuery<Long> countQuery = queryFactory
-                .select(tp.count())
-                .from(tp)
-                .join(tp.ticket, ticket)
-                .where(builder);
-        
-//        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
-        return new PageImpl<>(content, pageable, countQuery.fetchOne());
+        return builder;
     }
 
-
-
-    // 단건 조회
-    // pno(티켓 번호)로 퍼스널 티켓 가져와서 --> 해당 티켓이 가리키는 ticket도 붙여서 가져옴
-    public Optional<TicketPersonal> findWithTicketByPno(Long pno) {
+    // 일괄 변경 조건 (receiver 는 항상, 소유권 체크)
+    // update 문에는 join 을 못 붙여서 ticket 쪽 조건(등급/키워드)은 tno 서브쿼리로
+    private BooleanBuilder bulkCondition(String receiver, List<Long> pnos, TicketFilterDTO filter) {
         QTicketPersonal tp = QTicketPersonal.ticketPersonal;
         QTicket ticket = QTicket.ticket;
 
-        // fetchJoin 으로 n+1문제 막기
-        TicketPersonal result = queryFactory
-                .selectFrom(tp)
-                .join(tp.ticket, ticket).fetchJoin()
-                .where(tp.pno.eq(pno))
-                .fetchOne();
-        
-        return Optional.ofNullable(result);
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(tp.receiver.eq(receiver));
+
+        if (pnos != null && !pnos.isEmpty()) {
+            builder.and(tp.pno.in(pnos));
+        }
+
+        if (filter != null) {
+            if (filter.getState() != null) {
+                builder.and(tp.state.eq(filter.getState()));
+            }
+            if (filter.getRead() != null) {
+                builder.and(tp.isread.eq(filter.getRead()));
+            }
+
+            BooleanBuilder ticketCondition = new BooleanBuilder();
+            if (filter.getGrade() != null) {
+                ticketCondition.and(ticket.grade.eq(filter.getGrade()));
+            }
+            if (filter.getKeyword() != null && !filter.getKeyword().isBlank()) {
+                searchIndex.candidates(filter.getKeyword())
+                        .ifPresent(tnos -> ticketCondition.and(ticket.tno.in(tnos)));
+
+                String keyword = "%" + filter.getKeyword() + "%";
+                ticketCondition.and(ticket.title.like(keyword).or(ticket.content.like(keyword)));
+            }
+            if (ticketCondition.hasValue()) {
+                builder.and(tp.ticket.tno.in(
+                        JPAExpressions.select(ticket.tno).from(ticket).where(ticketCondition)));
+            }
+        }
+
+        return builder;
     }
 }
 
@@ -2,15 +2,35 @@ package com.desk.repository;
 
 import com.desk.domain.Ticket;
 import com.desk.dto.TicketFilterDTO;
+import com.desk.dto.TicketSentRowDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TicketRepository extends JpaRepository<Ticket, Long> {
     
     // QueryDSL 동적 쿼리 메서드
-    Page<Ticket> findAllWithPersonalList(String writer, TicketFilterDTO filter, Pageable pageable);
-    Optional<Ticket> findWithPersonalListById(Long tno);
+    // 목록은 Projections 로 목록 컬럼만 (본문 X)
+    Page<TicketSentRowDTO> findSentRows(String writer, TicketFilterDTO filter, Pageable pageable);
+    // 슬라이스 조회 (count 없이 다음 페이지 여부만)
+    Slice<TicketSentRowDTO> findSentRowSlice(String writer, TicketFilterDTO filter, Pageable pageable);
+    // 커서 조회 (tno < after, size + 1 개까지)
+    List<TicketSentRowDTO> findSentRowsAfter(String writer, TicketFilterDTO filter, Long after, int size);
+    // ticket 행 삭제 (delete 한 번, 수신자 행은 먼저 지워야 함, 지운 행만 캐시에서 비움)
+    int deleteByTnos(Collection<Long> tnos);
+
+    // 삭제 전 작성자 확인 (엔티티/수신자 목록은 안 읽음)
+    @Query("select t.writer from Ticket t where t.tno = :tno")
+    Optional<String> findWriterByTno(@Param("tno") Long tno);
+
+    // 일괄 삭제 전 확인 --- tnos 중 writer 가 쓴 것만
+    @Query("select t.tno from Ticket t where t.writer = :writer and t.tno in :tnos")
+    List<Long> findOwnedTnos(@Param("writer") String writer, @Param("tnos") Collection<Long> tnos);
 }
@@ -1,56 +1,66 @@
 package com.desk.repository;
 
 import com.desk.domain.QTicket;
-import com.desk.domain.Ticket;
+import com.desk.domain.QTicketSummary;
 import com.desk.dto.TicketFilterDTO;
+import com.desk.dto.TicketSentRowDTO;
+import com.desk.domain.Ticket;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QBean;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 @RequiredArgsConstructor
 public class TicketRepositoryImpl {
 
     // 쿼리팩토리 사용 (QueryDSL, 동적쿼리)
     private final JPAQueryFactory queryFactory;
+    // 전체 개수 캐시 (쓰기 작업에서 무효화)
+    private final TicketCountCache countCache;
+    // 키워드 검색용 역색인 (후보 tno)
+    private final TicketSearchIndex searchIndex;
+    // 일괄 삭제 (native delete + 지운 행만 캐시에서 비움)
+    private final EntityManager em;
     
     // 리스트 조회
-    public Page<Ticket> findAllWithPersonalList(String writer, TicketFilterDTO filter, Pageable pageable) {
+    // 목록에 보이는 컬럼만 DTO 로 바로 조회 (content/purpose/requirement 는 상세에서만, 영속성 컨텍스트에도 안 올라감)
+    public Page<TicketSentRowDTO> findSentRows(String writer, TicketFilterDTO filter, Pageable pageable) {
         // 쿼리DSL 객체
         QTicket ticket = QTicket.ticket;
 
         // 동적쿼리 조건 붙이는 빌더
-        BooleanBuilder builder = new BooleanBuilder();
-        builder.and(ticket.writer.eq(writer));
+        BooleanBuilder builder = filterCondition(writer, filter);
 
-        // TicketFilterDTO 있으면 필터링
-        if (filter != null) {
-            if (filter.getGrade() != null) {
-                builder.and(ticket.grade.eq(filter.getGrade()));
-            }
-            if (filter.getKeyword() != null && !filter.getKeyword().isBlank()) {
-                String keyword = "%" + filter.getKeyword() + "%";
-                builder.and(ticket.title.like(keyword).or(ticket.content.like(keyword)));
-            }
-        }
+        // 개수 캐시 세대 번호는 목록 쿼리(트랜잭션 스냅샷)보다 먼저
+        TicketCountCache.Stamp stamp = countCache.stamp(TicketCountCache.Box.SENT, writer);
 
-        // fetchJoin 으로 수신자 목록 조인 (N+1 방지)
-        // distinct 으로 같은 티켓 여러개 한 번에 합쳐서 반환
-        List<Ticket> content = queryFactory
-                .selectFrom(ticket)
-                .distinct()
-                .leftJoin(ticket.personalList).fetchJoin()
+        // 이번 페이지의 티켓 행 + 진행 현황 (티켓당 1줄이라 offset/limit 을 DB에서 그대로 처리)
+        List<TicketSentRowDTO> content = queryFactory
+                .select(sentRow(ticket))
+                .from(ticket)
+                .leftJoin(QTicketSummary.ticketSummary).on(QTicketSummary.ticketSummary.tno.eq(ticket.tno))
                 .where(builder)
+                .orderBy(ticket.tno.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .orderBy(ticket.tno.desc())
                 .fetch();
 
         // 총 개수 세기
@@ -59,25 +69,130 @@ public class TicketRepositoryImpl {
                 .from(ticket)
                 .where(builder);
 
-        // 이게 더 좋은거라는데 (pageable하지 않으면 count 생략) 너무 끔찍하게 생겨서 원래 하던걸로 해뒀어요...
-//        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
-        return new PageImpl<>(content, pageable, countQuery.fetchOne());
+        // 마지막 페이지처럼 개수를 알 수 있으면 count 생략, 필요하면 캐시 먼저 확인
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> countCache.get(stamp, filter, countQuery::fetchOne));
 
     }
 
-    // 단건 조회 (상세)
-    // tno (티켓O 퍼스널X)로 티켓 가져와서 수신자 목록 보여줌
-    // 여기 writer 조건 추가하면 권한 체크
-    public Optional<Ticket> findWithPersonalListById(Long tno) {
+    // 슬라이스 조회 (무한스크롤용)
+    // count 쿼리 없이 size + 1 개를 가져와서 다음 페이지 여부만 판단
+    public Slice<TicketSentRowDTO> findSentRowSlice(String writer, TicketFilterDTO filter, Pageable pageable) {
         QTicket ticket = QTicket.ticket;
-        
-        Ticket result = queryFactory
-                .selectFrom(ticket)
-                .leftJoin(ticket.personalList).fetchJoin()
-                .where(ticket.tno.eq(tno))
-                .fetchOne();
-        
-        return Optional.ofNullable(result);
+
+        List<TicketSentRowDTO> rows = queryFactory
+                .select(sentRow(ticket))
+                .from(ticket)
+                .leftJoin(QTicketSummary.ticketSummary).on(QTicketSummary.ticketSummary.tno.eq(ticket.tno))
+                .where(filterCondition(writer, filter))
+                .orderBy(ticket.tno.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<TicketSentRowDTO> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
     }
-}
 
+    // 커서(키셋) 조회
+    // offset 대신 tno < after 로 바로 찾아감 (after 가 null 이면 처음부터)
+    // 다음 페이지가 있는지 알기 위해 size + 1 개까지 가져옴
+    public List<TicketSentRowDTO> findSentRowsAfter(String writer, TicketFilterDTO filter, Long after, int size) {
+        QTicket ticket = QTicket.ticket;
+
+        BooleanBuilder builder = filterCondition(writer, filter);
+        if (after != null) {
+            builder.and(ticket.tno.lt(after));
+        }
+
+        return queryFactory
+                .select(sentRow(ticket))
+                .from(ticket)
+                .leftJoin(QTicketSummary.ticketSummary).on(QTicketSummary.ticketSummary.tno.eq(ticket.tno))
+                .where(builder)
+                .orderBy(ticket.tno.desc())
+                .limit(size + 1)
+                .fetch();
+    }
+
+    // 보낸함 목록 한 줄에 필요한 컬럼 + 진행 현황 (ticket_summary left join, 없으면 0)
+    private QBean<TicketSentRowDTO> sentRow(QTicket ticket) {
+        QTicketSummary summary = QTicketSummary.ticketSummary;
+        return Projections.fields(TicketSentRowDTO.class,
+                ticket.tno, ticket.title, ticket.grade, ticket.birth, ticket.deadline, ticket.writer,
+                orZero(summary.receivers, "receiverCount"),
+                orZero(summary.readCount, "readCount"),
+                orZero(summary.stateNew, "stateNew"),
+                orZero(summary.stateInProgress, "stateInProgress"),
+                orZero(summary.stateNeedInfo, "stateNeedInfo"),
+                orZero(summary.stateDone, "stateDone"));
+    }
+
+    // coalesce(path, 0L) 는 0 이 바인딩 파라미터로 나가서 템플릿으로 0 을 그대로 씀
+    private static Expression<Long> orZero(NumberPath<Long> path, String alias) {
+        return Expressions.numberTemplate(Long.class, "coalesce({0}, 0)", path).as(alias);
+    }
+
+    // 보낸함 공통 조건 (writer + TicketFilterDTO)
+    private BooleanBuilder filterCondition(String writer, TicketFilterDTO filter) {
+        QTicket ticket = QTicket.ticket;
+
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(ticket.writer.eq(writer));
+
+        // TicketFilterDTO 있으면 필터링
+        if (filter != null) {
+            if (filter.getGrade() != null) {
+                builder.and(ticket.grade.eq(filter.getGrade()));
+            }
+            if (filter.getKeyword() != null && !filter.getKeyword().isBlank()) {
+                // 역색인에서 후보 tno 를 받으면 PK 로 좁힌 뒤 LIKE 로 확인 (전체 스캔 방지)
+                searchIndex.candidates(filter.getKeyword())
+                        .ifPresent(tnos -> builder.and(ticket.tno.in(tnos)));
+
+                String keyword = "%" + filter.getKeyword() + "%";
+                builder.and(ticket.title.like(keyword).or(ticket.content.like(keyword)));
+            }
+        }
+
+        return builder;
+    }
+
+    // ticket 행 삭제 --- delete 한 번 (수신자 행은 먼저 지워야 함), 지운 행 수
+    // JPQL 로 지우면 ticket 캐시 영역 전체 + 티켓별 수신자 목록 캐시까지 비워지므로
+    // 캐시와 관계없는 이름을 힌트로 주고 지운 티켓과 그 수신자 목록만 직접 비움 (커밋 전에 다른 요청이 옛날 값을 다시 넣을 수 있어서 커밋 후에도)
+    public int deleteByTnos(Collection<Long> tnos) {
+        if (tnos.isEmpty()) {
+            return 0;
+        }
+        em.flush();
+        int deleted = em.createNativeQuery("delete from ticket where tno in (:tnos)")
+                .setParameter("tnos", tnos)
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, "ticket_row")
+                .executeUpdate();
+        if (deleted > 0) {
+            em.clear();
+            Cache cache = em.getEntityManagerFactory().getCache();
+            evictTickets(cache, tnos);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        evictTickets(cache, tnos);
+                    }
+                });
+            }
+        }
+        return deleted;
+    }
+
+    // 티켓 행 + 수신자 목록(컬렉션) 캐시
+    private static void evictTickets(Cache cache, Collection<Long> tnos) {
+        org.hibernate.Cache hibernateCache = cache.unwrap(org.hibernate.Cache.class);
+        for (Long tno : tnos) {
+            hibernateCache.evictEntityData(Ticket.class, tno);
+            hibernateCache.evictCollectionData(Ticket.class.getName() + ".personalList", tno);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.desk.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/*
+ * 티켓 제목/본문 키워드 검색용 역색인입니다. (ticket_gram 테이블, db/migration V7)
+ * LIKE '%키워드%' 는 인덱스를 못 타서 매번 ticket 전체를 스캔하므로,
+ * 2글자 단위(bigram)로 쪼갠 토큰 -> tno 를 들고 있다가 후보 tno 만 넘겨줍니다.
+ * 한글은 형태소 분석 없이도 2글자 단위면 부분 검색이 됩니다.
+ *
+ * 서버 메모리가 아니라 DB 에 두고 티켓 생성/삭제와 같은 트랜잭션에서 갱신하므로
+ * 서버를 여러 대 띄워도 다른 서버에서 만든 티켓이 후보에서 빠지지 않음
+ *
+ * 후보는 "키워드를 포함할 수도 있는" 티켓이라 실제 쿼리에서는 LIKE 로 한 번 더 확인합니다.
+ * (후보가 조금 많아도 결과는 틀리지 않음, 대신 후보에서 빠지면 안 됨)
+ */
+@Component
+@RequiredArgsConstructor
+public class TicketSearchIndex {
+
+    private static final int GRAM = 2;
+    // 후보가 이것보다 많으면 IN 절이 너무 길어지니 그냥 LIKE 로 처리
+    private static final int MAX_CANDIDATES = 1000;
+    // 바뀌는 테이블만 힌트로 (2차 캐시를 비우지 않게, 자동 flush 도 이 테이블 기준)
+    private static final String SPACE = "ticket_gram";
+
+    // 토큰 규칙은 tokenize 와 같음 (공백 제거, 제목/본문 따로), 기존 티켓은 V7 에서 같은 쿼리로 채움
+    private static final String INSERT_GRAMS = "insert ignore into ticket_gram (gram, tno) " +
+            "with recursive pos (i) as (select 1 union all select i + 1 from pos where i < 254), " +
+            "doc (tno, body) as (" +
+            "select tno, regexp_replace(title, '[[:space:]]+', '') from ticket where tno = :tno " +
+            "union all " +
+            "select tno, regexp_replace(content, '[[:space:]]+', '') from ticket where tno = :tno) " +
+            "select distinct substring(d.body, p.i, 2), d.tno from doc d join pos p on p.i < char_length(d.body)";
+
+    private final EntityManager em;
+
+    // 티켓 추가 (생성 시, 같은 트랜잭션) --- 저장된 ticket 행에서 바로 쪼개서 insert ... select 한 번
+    public void add(Long tno) {
+        // 힌트를 주면 ticket insert 가 자동 flush 되지 않으므로 직접
+        em.flush();
+        em.createNativeQuery(INSERT_GRAMS)
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, SPACE)
+                .setParameter("tno", tno)
+                .executeUpdate();
+    }
+
+    // 티켓 제거 (삭제 시, 같은 트랜잭션이라 롤백되면 그대로 남음)
+    public void remove(Collection<Long> tnos) {
+        em.createNativeQuery("delete from ticket_gram where tno in (:tnos)")
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, SPACE)
+                .setParameter("tnos", tnos)
+                .executeUpdate();
+    }
+
+    // 키워드를 포함할 수 있는 tno 후보 (키워드의 2글자를 전부 가진 티켓, PK(gram, tno) 범위로)
+    // 키워드 gram 중 collation 상 같은 것(Ca/ca)은 한 행에만 걸리므로 개수는 Java 가 아니라 DB 에서 (gram 인덱스로 gram 당 한 번)
+    // 비어있는 Optional 이면 인덱스를 쓸 수 없는 경우 (1글자 키워드, LIKE 와일드카드 포함, 후보 과다)
+    public Optional<Set<Long>> candidates(String keyword) {
+        if (keyword == null || keyword.contains("%") || keyword.contains("_")) {
+            return Optional.empty();
+        }
+
+        Set<String> grams = tokenize(keyword);
+        if (grams.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<?> rows = em.createNativeQuery("select tno from ticket_gram where gram in (:grams) " +
+                        "group by tno having count(*) = " +
+                        "(select count(distinct gram) from ticket_gram where gram in (:grams)) limit :limit")
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, SPACE)
+                .setParameter("grams", grams)
+                .setParameter("limit", MAX_CANDIDATES + 1)
+                .getResultList();
+
+        if (rows.size() > MAX_CANDIDATES) {
+            return Optional.empty();
+        }
+        return Optional.of(rows.stream()
+                .map(row -> ((Number) row).longValue())
+                .collect(Collectors.toSet()));
+    }
+
+    // 공백 제거 후 2글자씩 (대소문자/악센트는 ticket_gram 의 collation 이 LIKE 와 똑같이 비교)
+    // DB 의 substring 과 맞추려고 char 가 아니라 code point 단위
+    static Set<String> tokenize(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text == null) {
+            return grams;
+        }
+
+        int[] chars = text.replaceAll("\\s+", "").codePoints().toArray();
+        for (int i = 0; i + GRAM <= chars.length; i++) {
+            grams.add(new String(chars, i, GRAM));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,66 @@
+package com.desk.repository;
+
+import com.desk.domain.TicketSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+// 보낸함 진행 현황 갱신, 원본(ticket_personal)과 같은 트랜잭션에서 호출
+// 개수는 전부 update ... set x = x + n 으로 바꿔서 여러 수신자가 동시에 읽어도 빠지지 않음 (행 락)
+// 네이티브 쿼리는 바뀌는 테이블(ticket_summary)을 힌트로 알려줌, ticket_personal 을 읽는 쿼리는 직접 flush
+public interface TicketSummaryRepository extends JpaRepository<TicketSummary, Long> {
+
+    // 수신자 행 중 값이 달라진 것만 티켓별 차이 (새 값 - 이전 값)
+    String CHANGES = "select e.tno, sum(tp.isread = 1) - sum(e.isread = 1) read_count, " +
+            "sum(tp.state = 'NEW') - sum(e.state = 'NEW') state_new, " +
+            "sum(tp.state = 'IN_PROGRESS') - sum(e.state = 'IN_PROGRESS') state_in_progress, " +
+            "sum(tp.state = 'NEED_INFO') - sum(e.state = 'NEED_INFO') state_need_info, " +
+            "sum(tp.state = 'DONE') - sum(e.state = 'DONE') state_done " +
+            "from inbox_entry e join ticket_personal tp on tp.pno = e.pno ";
+
+    String CHANGED = "and (e.isread <> tp.isread or e.state <> tp.state) group by e.tno";
+
+    String APPLY = "s.read_count = s.read_count + d.read_count, s.state_new = s.state_new + d.state_new, " +
+            "s.state_in_progress = s.state_in_progress + d.state_in_progress, " +
+            "s.state_need_info = s.state_need_info + d.state_need_info, s.state_done = s.state_done + d.state_done";
+
+    // 티켓 생성 후: 방금 저장된 수신자 행을 세서 한 줄 (group by 없이 집계라 수신자가 없어도 0 으로 한 줄)
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "ticket_summary"))
+    @Query(value = "insert into ticket_summary " +
+            "(tno, receivers, read_count, state_new, state_in_progress, state_need_info, state_done) " +
+            "select :tno, count(*), coalesce(sum(tp.isread = 1), 0), coalesce(sum(tp.state = 'NEW'), 0), " +
+            "coalesce(sum(tp.state = 'IN_PROGRESS'), 0), coalesce(sum(tp.state = 'NEED_INFO'), 0), " +
+            "coalesce(sum(tp.state = 'DONE'), 0) " +
+            "from ticket_personal tp where tp.tp_tno = :tno",
+            nativeQuery = true)
+    int insertByTicket(@Param("tno") Long tno);
+
+    // 티켓 삭제 시
+    @Modifying
+    @Query("delete from TicketSummary s where s.tno in :tnos")
+    int deleteByTnos(@Param("tnos") Collection<Long> tnos);
+
+    // 읽음/상태변경 후, 받은함 목록(inbox_entry)을 맞추기 전에 호출
+    // inbox_entry(이전 값) 와 ticket_personal(새 값) 이 다른 행만 티켓별로 차이를 모아서 더함
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "ticket_summary"))
+    @Query(value = "update ticket_summary s join (" + CHANGES + "where e.receiver = :receiver " + CHANGED + ") d " +
+            "on s.tno = d.tno set " + APPLY,
+            nativeQuery = true)
+    int applyChanges(@Param("receiver") String receiver);
+
+    // pnos 를 알 때는 그 행만
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "ticket_summary"))
+    @Query(value = "update ticket_summary s join (" + CHANGES + "where e.receiver = :receiver and e.pno in (:pnos) " + CHANGED + ") d " +
+            "on s.tno = d.tno set " + APPLY,
+            nativeQuery = true)
+    int applyChanges(@Param("receiver") String receiver, @Param("pnos") Collection<Long> pnos);
+}
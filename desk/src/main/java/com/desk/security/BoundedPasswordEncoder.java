@@ -0,0 +1,116 @@
+package com.desk.security;
+
+import com.desk.dto.PasswordHashStatsDTO;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * BCrypt 를 톰캣 요청 스레드가 아니라 개수가 정해진 전용 스레드에서 실행하는 PasswordEncoder 입니다.
+ * 출근 시간에 로그인이 몰리면 BCrypt 가 CPU 를 다 써서 티켓 API 까지 느려지므로,
+ * 동시에 해시하는 개수를 threads 로 묶고 나머지는 queue 에서 기다리게 함
+ * (queue 도 꽉 차거나 timeout 안에 못 끝나면 LOGIN_BUSY 로 바로 실패 --- 요청 스레드를 오래 잡지 않음)
+ */
+@Log4j2
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    public static final String BUSY = "LOGIN_BUSY";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final Duration timeout;
+
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration timeout) {
+        this.delegate = delegate;
+        this.queueCapacity = queueCapacity;
+        this.timeout = timeout;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // 해시 비교가 아니라 문자열만 보므로 요청 스레드에서 바로
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    // 관리자 통계 (대기열 길이 등)
+    public PasswordHashStatsDTO getStats() {
+        return PasswordHashStatsDTO.builder()
+                .threads(executor.getMaximumPoolSize())
+                .active(executor.getActiveCount())
+                .queued(executor.getQueue().size())
+                .queueCapacity(queueCapacity)
+                .completed(executor.getCompletedTaskCount())
+                .rejected(rejected.get())
+                .timedOut(timedOut.get())
+                .build();
+    }
+
+    // 빈 종료 시 호출 (destroyMethod 추론)
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            log.warn("[PasswordHash] 대기열 초과 | 대기={}", executor.getQueue().size());
+            throw new AuthenticationServiceException(BUSY, e);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.incrementAndGet();
+            throw new AuthenticationServiceException(BUSY, e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AuthenticationServiceException(BUSY, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
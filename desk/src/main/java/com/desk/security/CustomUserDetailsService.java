@@ -1,24 +1,25 @@
 package com.desk.security;
 
 import com.desk.domain.Member;
-import com.desk.dto.MemberDTO;
 import com.desk.repository.MemberRepository;
+import com.desk.security.MemberPrincipalCache.MemberPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.stream.Collectors;
-
 
 @Service
 @Log4j2
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final MemberRepository memberRepository;
+    // 로그인마다 회원 + 권한 조회를 하지 않도록 (security/MemberPrincipalCache)
+    private final MemberPrincipalCache memberPrincipalCache;
 
     // Spring Security가 로그인 처리 시 자동 호출, username → 로그인 시 사용자가 입력한 email 혹은 아이디
     @Override
@@ -26,35 +27,34 @@ public class CustomUserDetailsService implements UserDetailsService {
         
         log.info("----------------loadUserByUsername-----------------------------");
 
-        Member member = memberRepository.getWithRoles(username);
-
-        if (member == null) {
-            throw new UsernameNotFoundException("Not Found");
-        }
+        MemberPrincipal member = memberPrincipalCache.get(username)
+                .orElseThrow(() -> new UsernameNotFoundException("Not Found"));
         
         // 1. 삭제된 회원 체크
-        if (member.isDeleted()) {
+        if (member.deleted()) {
             throw new UsernameNotFoundException("DELETED_ACCOUNT");
         }
 
         // 2. 미승인 회원 체크
-        if (!member.isApproved()) {
+        if (!member.approved()) {
             throw new UsernameNotFoundException("PENDING_APPROVAL");
         }
 
-        // DB에서 가져온 회원 정보를 Spring Security 인증 객체(MemberDTO → UserDetails 구현체)로 변환
-        MemberDTO memberDTO = new MemberDTO(
-                member.getEmail(),
-                member.getPw(),
-                member.getNickname(),
-                member.isSocial(),
-                member.getDepartment() != null ? member.getDepartment().name() : "", // Enum -> String
-                member.isApproved(),
-                member.getMemberRoleList().stream().map(Enum::name).collect(Collectors.toList()));
-
-        // DTO에도 부서 정보 등을 담고 싶다면 MemberDTO 필드 추가 필요
-        return memberDTO;
+        // 캐시된 회원 정보를 Spring Security 인증 객체(MemberDTO → UserDetails 구현체)로 변환
+        return member.toMemberDTO();
         // 사용자 정보를 DB에서 조회해서 UserDetails로 반환
         // 비밀번호 비교 → Spring Security 내부(DaoAuthenticationProvider + PasswordEncoder)에서 자동으로 처리
     }
+
+    // 로그인 성공 후 해시 형식/비용이 예전 것이면 DaoAuthenticationProvider 가 새로 해시해서 호출
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Member member = memberRepository.getWithRoles(user.getUsername());
+        member.changePw(newPassword);
+        memberRepository.save(member);
+        memberPrincipalCache.invalidate(member.getEmail());
+
+        log.info("password rehashed: {}", member.getEmail());
+        return MemberPrincipal.of(member).toMemberDTO();
+    }
 }
\ No newline at end of file
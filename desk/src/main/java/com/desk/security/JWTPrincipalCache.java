@@ -0,0 +1,106 @@
+package com.desk.security;
+
+import com.desk.dto.MemberDTO;
+import com.desk.util.CustomJWTException;
+import com.desk.util.JWTUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 검증이 끝난 access token -> 인증 정보(MemberDTO) 캐시
+ * 같은 토큰으로 API 를 계속 부르므로 매번 서명 검증(HMAC) + claims 파싱 + 권한 목록 생성을 하지 않음
+ * 키는 토큰의 SHA-256 (토큰 원문은 들고 있지 않음), 토큰 만료(exp) 시각이 되면 캐시에서도 빠짐
+ * 검증에 실패한 토큰은 저장하지 않음, 차단 목록(삭제/미승인 회원)은 캐시에 있어도 매번 확인
+ */
+public class JWTPrincipalCache {
+
+    private static final long MAX_ENTRIES = 10_000;
+
+    // MessageDigest 는 스레드 안전하지 않아서 스레드마다 하나씩 (매번 getInstance 하면 조회 비용)
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final TokenRevocationList revocationList;
+
+    private final Cache<String, Entry> principals = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfter(new Expiry<String, Entry>() {
+                @Override
+                public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                    return entry.remainingNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                    return entry.remainingNanos();
+                }
+
+                @Override
+                public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    public JWTPrincipalCache(TokenRevocationList revocationList) {
+        this.revocationList = revocationList;
+    }
+
+    // 캐시에 있으면 그대로, 없으면 검증 후 저장 (실패 시 JWTUtil 과 같은 CustomJWTException)
+    public MemberDTO get(String token) {
+        Entry entry = principals.get(hash(token), key -> load(token));
+        if (revocationList.isRevoked(entry.principal().getEmail(), entry.issuedAt())) {
+            throw new CustomJWTException("Revoked");
+        }
+        return entry.principal();
+    }
+
+    public long size() {
+        return principals.estimatedSize();
+    }
+
+    private Entry load(String token) {
+        Map<String, Object> claims = JWTUtil.validateToken(token);
+
+        String email = (String) claims.get("email");
+        String pw = "PROTECTED"; // 비밀번호 대신 사용할 임의의 문자열 (보안상 실제 비번 노출 안 함)
+        String nickname = (String) claims.get("nickname");
+        Boolean social = (Boolean) claims.get("social");
+        String department = (String) claims.get("department");
+        Boolean approved = (Boolean) claims.get("approved");
+        List<String> roleNames = (List<String>) claims.get("roleNames");
+
+        // JWT에서 추출한 정보로 인증 객체(MemberDTO) 생성, UserDetails 역할
+        MemberDTO principal = new MemberDTO(email, pw, nickname, social.booleanValue(), department, approved.booleanValue(), roleNames);
+        long issuedAt = ((Number) claims.get("iat")).longValue();
+        long expiresAt = ((Number) claims.get("exp")).longValue() * 1000;
+
+        return new Entry(principal, issuedAt, expiresAt);
+    }
+
+    // 토큰 원문 대신 쓰는 키 (KakaoClient 도 같이 사용)
+    static String hash(String token) {
+        byte[] digest = SHA256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest);
+    }
+
+    private record Entry(MemberDTO principal, long issuedAt, long expiresAt) {
+        long remainingNanos() {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiresAt - System.currentTimeMillis()));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.desk.security;
+
+import com.desk.util.CircuitBreaker;
+import com.desk.util.KakaoUnavailableException;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+/*
+ * 카카오 사용자 정보(/v2/user/me) 조회 클라이언트
+ *  - RestTemplate 은 커넥션 풀 + connect/read timeout 이 설정된 것을 공유 (config/KakaoClientConfig)
+ *  - 타임아웃/5xx 가 연속되면 서킷을 열어서 한동안 카카오를 부르지 않고 바로 KAKAO_UNAVAILABLE
+ *  - 같은 access token 으로 다시 오면 짧은 시간(ttl) 동안은 저장해둔 이메일 사용 (키는 토큰의 SHA-256)
+ *  - base-url 을 바꾸면 로컬 스텁 서버(테스트 소스의 config/KakaoStubServer)로 부하 테스트 가능
+ */
+@Log4j2
+public class KakaoClient {
+
+    private static final long MAX_ENTRIES = 10_000;
+
+    private final RestTemplate restTemplate;
+    private final CircuitBreaker circuitBreaker;
+    private final Cache<String, String> emails;
+
+    public KakaoClient(RestTemplate restTemplate, CircuitBreaker circuitBreaker, Duration cacheTtl) {
+        this.restTemplate = restTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.emails = Caffeine.newBuilder()
+                .maximumSize(MAX_ENTRIES)
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    // access token 의 카카오 계정 이메일 (동의 안 했으면 null)
+    public String getEmail(String accessToken) {
+        // accessToken이 없으면 실행할 수 없으므로 예외 처리
+        if (accessToken == null) {
+            throw new RuntimeException("Access Token is null");
+        }
+
+        String key = JWTPrincipalCache.hash(accessToken);
+        String cached = emails.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        String email = fetchEmail(accessToken);
+        if (email != null) {
+            emails.put(key, email);
+        }
+        return email;
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private String fetchEmail(String accessToken) {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new KakaoUnavailableException(null);
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessToken); // 카카오 서버가 요청을 인증하도록 Bearer 토큰 방식으로 전달
+
+        KakaoUser user;
+        try {
+            user = restTemplate.exchange("/v2/user/me", HttpMethod.GET, new HttpEntity<>(headers), KakaoUser.class).getBody();
+        } catch (HttpClientErrorException e) {
+            // 401 등 잘못된 토큰은 카카오 장애가 아니므로 서킷에 세지 않음
+            circuitBreaker.onSuccess();
+            throw e;
+        } catch (RestClientException e) {
+            // 타임아웃, 연결 실패, 5xx
+            circuitBreaker.onFailure();
+            log.warn("[Kakao] 사용자 조회 실패 | circuit={} | {}", circuitBreaker.getState(), e.getMessage());
+            throw new KakaoUnavailableException(e);
+        } catch (RuntimeException e) {
+            // 그 밖의 예외도 실패로 세야 시험 호출(HALF_OPEN) 자리가 풀림
+            circuitBreaker.onFailure();
+            throw e;
+        }
+        circuitBreaker.onSuccess();
+
+        return user == null || user.account() == null ? null : user.account().email();
+    }
+
+    // 필요한 값만 받음 (나머지 필드는 무시)
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record KakaoUser(Long id, @JsonProperty("kakao_account") KakaoAccount account) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record KakaoAccount(String email) {
+    }
+}
@@ -0,0 +1,149 @@
+package com.desk.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/*
+ * 로그인 실패 횟수로 계정/IP 별 로그인 시도를 잠시 막는 카운터입니다.
+ * 비밀번호 대입 공격이 들어오면 시도마다 회원 조회(DB) + BCrypt 비교를 하게 되므로,
+ * 최근 window 동안 실패가 기준을 넘으면 인증(UserDetailsService/BCrypt) 전에 LoginThrottleFilter 에서 바로 거절
+ *  - 실패 수는 window 단위 두 칸(이전/현재)으로 세고 이전 칸은 지난 비율만큼 빼서 계산 (슬라이딩 윈도우 근사)
+ *  - 막힐 때마다 차단 시간이 2배씩 늘어남 (base-delay ~ max-delay), 두 window 동안 실패가 없으면 처음부터
+ *  - 키별 상태는 불변 객체를 CAS 로 교체 (락 없음), 키 보관은 Caffeine (개수 제한 + 안 쓰인 키 만료, 요청 스레드에서 전체 정리 없음)
+ * 로그인 성공 시 계정 카운터는 초기화, IP 는 여러 명이 같이 쓸 수 있어 그대로 둠
+ * 서버별 메모리라 서버가 여러 대면 각자 셈
+ */
+@Component
+@Log4j2
+public class LoginThrottle {
+
+    // 키 개수 상한 (무작위 email/IP 대입 공격이면 오래 안 쓰인 키부터 빠짐)
+    private static final int MAX_KEYS = 100_000;
+
+    private final int accountLimit;
+    private final int ipLimit;
+    private final long windowMillis;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final LongSupplier clock;
+
+    private final Cache<String, AtomicReference<Window>> counters;
+
+    @Autowired
+    public LoginThrottle(@Value("${security.login-throttle.account-failures:5}") int accountLimit,
+                         @Value("${security.login-throttle.ip-failures:50}") int ipLimit,
+                         @Value("${security.login-throttle.window:15m}") Duration window,
+                         @Value("${security.login-throttle.base-delay:30s}") Duration baseDelay,
+                         @Value("${security.login-throttle.max-delay:15m}") Duration maxDelay) {
+        this(accountLimit, ipLimit, window, baseDelay, maxDelay, System::currentTimeMillis);
+    }
+
+    LoginThrottle(int accountLimit, int ipLimit, Duration window, Duration baseDelay, Duration maxDelay, LongSupplier clock) {
+        this.accountLimit = accountLimit;
+        this.ipLimit = ipLimit;
+        this.windowMillis = window.toMillis();
+        this.baseDelayMillis = baseDelay.toMillis();
+        this.maxDelayMillis = maxDelay.toMillis();
+        this.clock = clock;
+        // 두 window 동안 실패가 없으면 어차피 처음부터라 그만큼 안 쓰인 키는 만료 (차단 중인 키는 차단이 끝날 때까지는 남김)
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(MAX_KEYS)
+                .expireAfterAccess(Math.max(2 * windowMillis, maxDelayMillis), TimeUnit.MILLISECONDS)
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.getAsLong()))
+                .build();
+    }
+
+    // 남은 차단 시간(ms), 0 이면 시도 가능 (계정/IP 중 긴 쪽)
+    public long retryAfterMillis(String email, String ip) {
+        long now = clock.getAsLong();
+        return Math.max(blockedFor(accountKey(email), now), blockedFor(ipKey(ip), now));
+    }
+
+    public void recordFailure(String email, String ip) {
+        long now = clock.getAsLong();
+        fail(accountKey(email), accountLimit, now);
+        fail(ipKey(ip), ipLimit, now);
+    }
+
+    public void recordSuccess(String email) {
+        String key = accountKey(email);
+        if (key != null) {
+            counters.invalidate(key);
+        }
+    }
+
+    private long blockedFor(String key, long now) {
+        if (key == null) {
+            return 0;
+        }
+        AtomicReference<Window> ref = counters.getIfPresent(key);
+        return ref == null ? 0 : Math.max(0, ref.get().blockedUntil() - now);
+    }
+
+    private void fail(String key, int limit, long now) {
+        if (key == null) {
+            return;
+        }
+        AtomicReference<Window> ref = counters.get(key, k -> new AtomicReference<>(Window.EMPTY));
+        while (true) {
+            Window current = ref.get();
+            Window next = current.fail(now, limit, windowMillis, baseDelayMillis, maxDelayMillis);
+            if (ref.compareAndSet(current, next)) {
+                if (next.blockedUntil() > current.blockedUntil()) {
+                    log.warn("[LoginThrottle] 차단 | key={} | {}ms", key, next.blockedUntil() - now);
+                }
+                return;
+            }
+        }
+    }
+
+    private static String accountKey(String email) {
+        return email == null || email.isBlank() ? null : "account:" + email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String ipKey(String ip) {
+        return ip == null || ip.isBlank() ? null : "ip:" + ip;
+    }
+
+    // start: 현재 칸 시작 시각, current/previous: 현재/이전 칸 실패 수, lockouts: 연속 차단 횟수
+    record Window(long start, int current, int previous, long blockedUntil, int lockouts) {
+
+        static final Window EMPTY = new Window(0, 0, 0, 0, 0);
+
+        Window fail(long now, int limit, long windowMillis, long baseDelayMillis, long maxDelayMillis) {
+            Window rolled = roll(now, windowMillis);
+            int failures = rolled.current + 1;
+            // 이전 칸은 현재 칸이 진행된 만큼 덜 셈
+            double elapsed = (double) (now - rolled.start) / windowMillis;
+            double estimate = rolled.previous * (1 - elapsed) + failures;
+
+            if (estimate < limit) {
+                return new Window(rolled.start, failures, rolled.previous, rolled.blockedUntil, rolled.lockouts);
+            }
+            int lockouts = rolled.lockouts + 1;
+            long delay = Math.min(maxDelayMillis, baseDelayMillis << Math.min(lockouts - 1, 30));
+            return new Window(rolled.start, failures, rolled.previous, now + delay, lockouts);
+        }
+
+        // 현재 칸이 지났으면 한 칸(또는 두 칸 이상) 밀기
+        Window roll(long now, long windowMillis) {
+            long start = now - now % windowMillis;
+            if (start == this.start) {
+                return this;
+            }
+            int previous = start - this.start == windowMillis ? current : 0;
+            int lockouts = previous == 0 && now >= blockedUntil ? 0 : this.lockouts;
+            return new Window(start, 0, previous, blockedUntil, lockouts);
+        }
+    }
+}
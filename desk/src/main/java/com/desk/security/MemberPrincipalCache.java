@@ -0,0 +1,109 @@
+package com.desk.security;
+
+import com.desk.domain.Member;
+import com.desk.dto.CacheStatsDTO;
+import com.desk.dto.MemberDTO;
+import com.desk.repository.MemberRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/*
+ * 로그인용 회원 정보 캐시 (email -> 인증에 필요한 값만)
+ * SSO/모바일 클라이언트가 같은 계정으로 계속 로그인해서 매번 회원 + 권한 조회(getWithRoles)를 하던 것을 줄임
+ *  - refresh 시간이 지난 뒤 조회되면 기존 값은 그대로 돌려주고 뒤에서 다시 읽음 (로그인이 DB 를 기다리지 않음)
+ *  - 승인/삭제/정보 수정/비밀번호 재해시 때 비움 (트랜잭션 안이면 커밋 이후에도 한 번 더 --- 커밋 전에 다시 읽힌 값 제거)
+ *  - 없는 회원은 저장하지 않음 (가입 직후 바로 로그인 가능)
+ * 서버별 메모리라 다른 서버의 변경은 refresh/ttl 안에 반영
+ */
+@Component
+@Log4j2
+public class MemberPrincipalCache {
+
+    public static final String REGION = "memberPrincipal";
+
+    private final MemberRepository memberRepository;
+    private final LoadingCache<String, MemberPrincipal> principals;
+
+    public MemberPrincipalCache(MemberRepository memberRepository,
+                                @Value("${security.member-cache.max-size:10000}") long maxSize,
+                                @Value("${security.member-cache.refresh:5m}") Duration refresh,
+                                @Value("${security.member-cache.ttl:30m}") Duration ttl) {
+        this.memberRepository = memberRepository;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .refreshAfterWrite(refresh)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(this::load);
+    }
+
+    public Optional<MemberPrincipal> get(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(principals.get(email));
+    }
+
+    public void invalidate(String email) {
+        principals.invalidate(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    principals.invalidate(email);
+                }
+            });
+        }
+    }
+
+    // 관리자 캐시 통계 (GET /api/admin/cache 에 같이 표시)
+    public CacheStatsDTO getStats() {
+        CacheStats stats = principals.stats();
+        return CacheStatsDTO.builder()
+                .region(REGION)
+                .size(principals.estimatedSize())
+                .hits(stats.hitCount())
+                .misses(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictions(stats.evictionCount())
+                .build();
+    }
+
+    // null 이면 캐시에 넣지 않음 (refresh 중이면 기존 값 제거)
+    private MemberPrincipal load(String email) {
+        Member member = memberRepository.getWithRoles(email);
+        return member == null ? null : MemberPrincipal.of(member);
+    }
+
+    // 인증에 필요한 값만 (엔티티/연관관계는 들고 있지 않음)
+    public record MemberPrincipal(String email, String pw, String nickname, boolean social,
+                                  String department, boolean approved, boolean deleted, List<String> roleNames) {
+
+        static MemberPrincipal of(Member member) {
+            return new MemberPrincipal(
+                    member.getEmail(),
+                    member.getPw(),
+                    member.getNickname(),
+                    member.isSocial(),
+                    member.getDepartment() != null ? member.getDepartment().name() : null,
+                    member.isApproved(),
+                    member.isDeleted(),
+                    member.getMemberRoleList().stream().map(Enum::name).toList());
+        }
+
+        // 폼 로그인/카카오 로그인/비밀번호 재해시 공통 (부서가 없으면 "")
+        public MemberDTO toMemberDTO() {
+            return new MemberDTO(email, pw, nickname, social, department != null ? department : "", approved, roleNames);
+        }
+    }
+}
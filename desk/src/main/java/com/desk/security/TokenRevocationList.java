@@ -0,0 +1,147 @@
+package com.desk.security;
+
+import com.desk.repository.MemberRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * 삭제/미승인 회원의 토큰 차단 목록입니다.
+ * JWT 는 만료 전까지 DB 를 안 보고 통과시키므로, 회원별로 "이 시각 이전에 발급된 토큰은 무효" 값을 메모리에 들고 있음
+ *  - 삭제/미승인: 모든 토큰 무효 (Long.MAX_VALUE)
+ *  - 승인: 승인 시각 이전 토큰 무효 (approved=false 로 발급된 토큰은 다시 로그인해서 받아야 함)
+ *
+ * 대부분의 요청은 차단 대상이 아니므로 앞에 블룸 필터를 둬서 "확실히 없음" 은 Map 조회 없이 바로 통과
+ * (블룸 필터가 "있을 수도" 라고 하면 Map 에서 확인, 틀리게 막는 경우는 없음)
+ * 서버 시작 시 DB 에서 적재, 이후에는 관리자 처리(삭제/승인) 커밋 때 반영 --- 서버별 메모리라 다른 서버는 재시작 시 반영
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class TokenRevocationList {
+
+    // 블룸 필터 오탐률 (1%), 예상 개수를 넘으면 2배로 다시 만듦
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int MIN_CAPACITY = 1024;
+
+    private final MemberRepository memberRepository;
+
+    // email -> 이 시각(초) 이전에 발급된 토큰은 무효
+    private final Map<String, Long> notBefore = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloom = new BloomFilter(MIN_CAPACITY, FALSE_POSITIVE_RATE);
+
+    // 서버가 요청을 받기 전에 적재 (삭제됐거나 승인 안 된 회원)
+    @PostConstruct
+    public void load() {
+        List<String> emails = memberRepository.findRevokedEmails();
+        bloom = new BloomFilter(Math.max(MIN_CAPACITY, emails.size() * 2), FALSE_POSITIVE_RATE);
+        emails.forEach(email -> put(email, Long.MAX_VALUE));
+        log.info("[TokenRevocation] 적재 완료 | 차단 회원수={}", emails.size());
+    }
+
+    // 토큰이 무효인지 (issuedAt 은 JWT 의 iat, 초 단위)
+    public boolean isRevoked(String email, long issuedAt) {
+        if (email == null || !bloom.mightContain(email)) {
+            return false;
+        }
+        Long watermark = notBefore.get(email);
+        return watermark != null && issuedAt < watermark;
+    }
+
+    // 삭제/미승인 --- 모든 토큰 무효 (트랜잭션 안이면 커밋 이후에, 롤백되면 그대로 써야 하므로)
+    public void revoke(String email) {
+        afterCommit(() -> put(email, Long.MAX_VALUE));
+    }
+
+    // 승인 --- 지금 이전에 발급된 토큰만 무효
+    public void revokeIssuedBefore(String email, long epochSecond) {
+        afterCommit(() -> put(email, epochSecond));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    // Map 에 먼저 넣고 블룸 필터에 추가 (블룸 필터에 보이면 Map 에도 있도록)
+    private synchronized void put(String email, long watermark) {
+        boolean added = notBefore.put(email, watermark) == null;
+        if (added && notBefore.size() > bloom.capacity()) {
+            BloomFilter grown = new BloomFilter(bloom.capacity() * 2, FALSE_POSITIVE_RATE);
+            notBefore.keySet().forEach(grown::add);
+            bloom = grown;
+            return;
+        }
+        bloom.add(email);
+    }
+
+    // 비트 배열 + 해시 k 개 (64비트 FNV-1a 를 반으로 나눠서 k 개를 만듦)
+    static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final int bitCount;
+        private final int hashCount;
+        private final int capacity;
+
+        BloomFilter(int capacity, double falsePositiveRate) {
+            this.capacity = capacity;
+            long m = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, m));
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+            this.bits = new AtomicLongArray((bitCount + 63) / 64);
+        }
+
+        int capacity() {
+            return capacity;
+        }
+
+        void add(String value) {
+            long hash = hash(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bitCount);
+                long mask = 1L << bit;
+                bits.getAndUpdate(bit >>> 6, word -> word | mask);
+            }
+        }
+
+        boolean mightContain(String value) {
+            long hash = hash(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long hash(String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+    }
+}
@@ -2,7 +2,8 @@ package com.desk.security.filter;
 
 import com.google.gson.Gson;
 import com.desk.dto.MemberDTO;
-import com.desk.util.JWTUtil;
+import com.desk.security.JWTPrincipalCache;
+import com.desk.security.TokenRevocationList;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,11 +15,18 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.util.List;
 import java.util.Map;
 
 @Log4j2 // OncePerRequestFilter 상속 → 모든 HTTP 요청마다 한 번 실행되는 필터
 public class JWTCheckFilter extends OncePerRequestFilter{
+
+    // 검증된 토큰 -> 인증 정보 (토큰 만료 시각까지), 삭제/미승인 회원 토큰은 차단
+    private final JWTPrincipalCache principalCache;
+
+    public JWTCheckFilter(TokenRevocationList revocationList) {
+        this.principalCache = new JWTPrincipalCache(revocationList);
+    }
+
     // shouldNotFilter()가 false면 필터 로직(doFilterInternal)이 실행되어 JWT 검증 등 인증 처리가 수행되고, 
     // true면 필터를 건너뛰고 다음 필터로 넘어간다.
     @Override 
@@ -57,30 +65,14 @@ public class JWTCheckFilter extends OncePerRequestFilter{
     try {
       //Bearer accestoken... "Bearer " 접두사 제거
       String accessToken = authHeaderStr.substring(7);
-      // JWT 서명 확인 + payload(claims) 반환, 실패 시 예외 → catch 블록으로 이동
-      Map<String, Object> claims = JWTUtil.validateToken(accessToken); 
-
-      log.info("JWT claims: " + claims);
-
-      String email = (String) claims.get("email");
-//      String pw = (String) claims.get("pw");
-      String pw = "PROTECTED"; // 비밀번호 대신 사용할 임의의 문자열 (보안상 실제 비번 노출 안 함)
-
-      String nickname = (String) claims.get("nickname");
-      Boolean social = (Boolean) claims.get("social");
-      String department = (String) claims.get("department");
-      Boolean approved = (Boolean) claims.get("approved");
-      List<String> roleNames = (List<String>) claims.get("roleNames");
-
-      // JWT에서 추출한 정보로 인증 객체(MemberDTO) 생성, UserDetails 역할
-      MemberDTO memberDTO = new MemberDTO(email, pw, nickname, social.booleanValue(), department, approved.booleanValue(), roleNames);
+      // JWT 서명 확인 + 인증 객체(MemberDTO) 생성, 실패 시 예외 → catch 블록으로 이동
+      // 이미 검증한 토큰이면 캐시에서 바로 (서명 검증/claims 파싱 생략)
+      MemberDTO memberDTO = principalCache.get(accessToken);
 
-      log.info("-----------------------------------");
-      log.info(memberDTO);
-      log.info(memberDTO.getAuthorities());
+      log.debug("JWT principal: {} {}", memberDTO.getEmail(), memberDTO.getAuthorities());
 
       UsernamePasswordAuthenticationToken authenticationToken
-      = new UsernamePasswordAuthenticationToken(memberDTO, pw, memberDTO.getAuthorities());
+      = new UsernamePasswordAuthenticationToken(memberDTO, memberDTO.getPw(), memberDTO.getAuthorities());
 
       // 지금 로그인한 사용자의 인증 정보(사용자 정보, 비밀번호, 권한 등)를 SecurityContext에 저장
       SecurityContextHolder.getContext().setAuthentication(authenticationToken);
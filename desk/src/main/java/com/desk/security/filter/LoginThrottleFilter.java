@@ -0,0 +1,57 @@
+package com.desk.security.filter;
+
+import com.desk.security.LoginThrottle;
+import com.google.gson.Gson;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+
+@Log4j2 // 로그인 요청만 검사, 실패가 많은 계정/IP 는 회원 조회/BCrypt 전에 거절
+public class LoginThrottleFilter extends OncePerRequestFilter {
+
+    public static final String THROTTLED = "TOO_MANY_ATTEMPTS";
+
+    private final LoginThrottle loginThrottle;
+    private final String loginUrl;
+
+    public LoginThrottleFilter(LoginThrottle loginThrottle, String loginUrl) {
+        this.loginThrottle = loginThrottle;
+        this.loginUrl = loginUrl;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
+        return !"POST".equals(request.getMethod()) || !loginUrl.equals(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        long retryAfter = loginThrottle.retryAfterMillis(request.getParameter("username"), request.getRemoteAddr());
+        if (retryAfter <= 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long seconds = (retryAfter + 999) / 1000;
+        log.info("Login throttled.... {}s", seconds);
+
+        // 로그인 실패 응답(APILoginFailHandler)과 같은 형식, 다시 시도할 수 있는 시간(초)을 같이 보냄
+        Gson gson = new Gson();
+        String jsonStr = gson.toJson(Map.of("error", THROTTLED, "retryAfter", seconds));
+
+        response.setContentType("application/json");
+        response.setHeader("Retry-After", String.valueOf(seconds));
+        PrintWriter printWriter = response.getWriter();
+        printWriter.println(jsonStr);
+        printWriter.close();
+    }
+}
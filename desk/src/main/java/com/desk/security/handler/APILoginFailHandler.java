@@ -1,5 +1,7 @@
 package com.desk.security.handler;
 
+import com.desk.security.BoundedPasswordEncoder;
+import com.desk.security.LoginThrottle;
 import com.google.gson.Gson;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,7 +17,14 @@ import java.util.Map;
 
 @Log4j2 // AuthenticationFailureHandler 구현 → Spring Security에서 로그인 실패 시 호출
 public class APILoginFailHandler implements AuthenticationFailureHandler{
-    
+
+    // 계정/IP 별 실패 횟수 (기준을 넘으면 LoginThrottleFilter 에서 차단)
+    private final LoginThrottle loginThrottle;
+
+    public APILoginFailHandler(LoginThrottle loginThrottle) {
+        this.loginThrottle = loginThrottle;
+    }
+
     @Override
     public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response, AuthenticationException exception) 
     throws IOException, ServletException{
@@ -28,10 +37,17 @@ public class APILoginFailHandler implements AuthenticationFailureHandler{
             errorMessage = "PENDING_APPROVAL";
         } else if (exception.getMessage().equals("DELETED_ACCOUNT")) {
             errorMessage = "DELETED_ACCOUNT";
+        } else if (exception.getMessage().equals(BoundedPasswordEncoder.BUSY)) {
+            errorMessage = BoundedPasswordEncoder.BUSY; // 로그인 몰림, 잠시 후 다시
         } else if (exception instanceof BadCredentialsException) {
              errorMessage = "BAD_CREDENTIALS"; // 비번 틀림
         }
 
+        // 서버가 바빠서 실패한 것(LOGIN_BUSY)은 사용자 실패로 세지 않음
+        if (!errorMessage.equals(BoundedPasswordEncoder.BUSY)) {
+            loginThrottle.recordFailure(request.getParameter("username"), request.getRemoteAddr());
+        }
+
         Gson gson = new Gson();
         // Map → JSON 문자열 변환, 클라이언트는 로그인 실패 이유를 JSON으로 받음
         String jsonStr = gson.toJson(Map.of("error", errorMessage));
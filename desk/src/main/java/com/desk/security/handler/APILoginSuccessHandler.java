@@ -2,6 +2,7 @@ package com.desk.security.handler;
 
 import com.google.gson.Gson;
 import com.desk.dto.MemberDTO;
+import com.desk.security.LoginThrottle;
 import com.desk.util.JWTUtil;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,7 +17,13 @@ import java.util.Map;
 
 @Log4j2
 public class APILoginSuccessHandler implements AuthenticationSuccessHandler{
-    
+
+    private final LoginThrottle loginThrottle;
+
+    public APILoginSuccessHandler(LoginThrottle loginThrottle) {
+        this.loginThrottle = loginThrottle;
+    }
+
     @Override // authentication → 로그인 성공 후 Spring Security 인증 객체
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication)
     throws IOException, ServletException{
@@ -27,6 +34,9 @@ public class APILoginSuccessHandler implements AuthenticationSuccessHandler{
         // authentication.getPrincipal()로 가져오는 객체는 사용자 정보 + 로그인 인증 상태 + 권한 정보를 모두 담고 있는 Security 전용 객체
         MemberDTO memberDTO = (MemberDTO)authentication.getPrincipal();
 
+        // 로그인 성공 → 계정 실패 횟수 초기화
+        loginThrottle.recordSuccess(memberDTO.getEmail());
+
         // JWT payload로 담을 정보, memberDTO에 정의된 함수
         Map<String, Object> claims  = memberDTO.getClaims();
 
@@ -1,8 +1,11 @@
 package com.desk.service;
 
+import com.desk.dto.CacheStatsDTO;
 import com.desk.dto.MemberDTO;
 import com.desk.dto.PageRequestDTO;
 import com.desk.dto.PageResponseDTO;
+import com.desk.dto.PasswordHashStatsDTO;
+import com.desk.dto.ReadReceiptStatsDTO;
 
 import java.util.List;
 
@@ -11,4 +14,7 @@ public interface AdminService {
     PageResponseDTO<MemberDTO> getActiveMembers(PageRequestDTO pageRequestDTO);
     void approveMember(String email);
     void deleteMember(String email);
+    List<CacheStatsDTO> getCacheStats();
+    PasswordHashStatsDTO getPasswordHashStats();
+    ReadReceiptStatsDTO getReadReceiptStats();
 }
\ No newline at end of file
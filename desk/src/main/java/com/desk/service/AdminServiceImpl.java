@@ -1,10 +1,18 @@
 package com.desk.service;
 
 import com.desk.domain.Member;
+import com.desk.dto.CacheStatsDTO;
 import com.desk.dto.MemberDTO;
 import com.desk.dto.PageRequestDTO;
 import com.desk.dto.PageResponseDTO;
+import com.desk.dto.PasswordHashStatsDTO;
+import com.desk.dto.ReadReceiptStatsDTO;
 import com.desk.repository.MemberRepository;
+import com.desk.security.BoundedPasswordEncoder;
+import com.desk.security.MemberPrincipalCache;
+import com.desk.security.TokenRevocationList;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.data.domain.Page;
@@ -14,7 +22,10 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.cache.CacheManager;
+import java.time.Instant;
 import java.util.List;
+import java.util.stream.StreamSupport;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,6 +35,11 @@ import java.util.stream.Collectors;
 public class AdminServiceImpl implements AdminService {
 
     private final MemberRepository memberRepository;
+    private final TokenRevocationList tokenRevocationList; // 삭제/승인 시 기존 토큰 차단
+    private final CacheManager ticketCacheManager; // 티켓 2차 캐시 (config/TicketCacheConfig)
+    private final BoundedPasswordEncoder passwordEncoder; // 비밀번호 해시 대기열 통계
+    private final MemberPrincipalCache memberPrincipalCache; // 로그인용 회원 캐시 (승인/삭제 시 비움)
+    private final ReadReceiptBuffer readReceiptBuffer; // 읽음처리 write-behind 버퍼 통계
 
     @Override
     public List<MemberDTO> getPendingMembers() {
@@ -59,12 +75,52 @@ public class AdminServiceImpl implements AdminService {
     public void approveMember(String email) {
         Member member = memberRepository.findById(email).orElseThrow();
         member.changeApproved(true);
+        memberPrincipalCache.invalidate(email);
+        // 승인 전에 발급된 토큰(approved=false)은 다시 로그인해서 받도록
+        tokenRevocationList.revokeIssuedBefore(email, Instant.now().getEpochSecond());
     }
 
     @Override
     public void deleteMember(String email) {
         Member member = memberRepository.findById(email).orElseThrow();
         member.changeDeleted(true);
+        memberPrincipalCache.invalidate(email);
+        // 만료 전 토큰도 바로 막음 (커밋 이후)
+        tokenRevocationList.revoke(email);
+    }
+
+    // 2차 캐시 영역별 + 로그인용 회원 캐시 적중/실패/제거 횟수 (서버 1대 기준, 재시작하면 0부터)
+    @Override
+    public List<CacheStatsDTO> getCacheStats() {
+        List<CacheStatsDTO> regions = StreamSupport.stream(ticketCacheManager.getCacheNames().spliterator(), false)
+                .sorted()
+                .map(region -> {
+                    Cache<?, ?> cache = ticketCacheManager.getCache(region).unwrap(Cache.class);
+                    CacheStats stats = cache.stats();
+                    return CacheStatsDTO.builder()
+                            .region(region)
+                            .size(cache.estimatedSize())
+                            .hits(stats.hitCount())
+                            .misses(stats.missCount())
+                            .hitRate(stats.hitRate())
+                            .evictions(stats.evictionCount())
+                            .build();
+                })
+                .collect(Collectors.toList());
+        regions.add(memberPrincipalCache.getStats());
+        return regions;
+    }
+
+    // 비밀번호 해시 전용 스레드 상태 (로그인 몰림 확인용)
+    @Override
+    public PasswordHashStatsDTO getPasswordHashStats() {
+        return passwordEncoder.getStats();
+    }
+
+    // 읽음처리 버퍼 상태 (쌓인 개수, flush 시간)
+    @Override
+    public ReadReceiptStatsDTO getReadReceiptStats() {
+        return readReceiptBuffer.getStats();
     }
 
     // 엔티티 -> DTO 변환 (안전하게 처리)
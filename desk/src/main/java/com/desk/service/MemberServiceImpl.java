@@ -7,20 +7,15 @@ import com.desk.dto.MemberDTO;
 import com.desk.dto.MemberJoinDTO;
 import com.desk.dto.MemberModifyDTO;
 import com.desk.repository.MemberRepository;
+import com.desk.security.KakaoClient;
+import com.desk.security.MemberPrincipalCache;
+import com.desk.security.TokenRevocationList;
 import com.desk.util.MemberExistException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponents;
-import org.springframework.web.util.UriComponentsBuilder;
 
-import java.util.LinkedHashMap;
 import java.util.Optional;
 
 @Service
@@ -32,21 +27,28 @@ public class MemberServiceImpl implements MemberService {
   private final MemberRepository memberRepository;
   // 비밀번호 암호화 처리
   private final PasswordEncoder passwordEncoder;
+  // 승인 대기 회원 토큰 차단 (부서 입력용 /api/member/ 경로만 사용 가능)
+  private final TokenRevocationList tokenRevocationList;
+  // 로그인용 회원 캐시 (카카오 로그인 조회, 정보 수정 시 비움)
+  private final MemberPrincipalCache memberPrincipalCache;
+  // 카카오 사용자 정보 조회 (config/KakaoClientConfig)
+  private final KakaoClient kakaoClient;
 
   @Override // 카카오 회원 정보 조회
   public MemberDTO getKakaoMember(String accessToken) {
 
     // 카카오에서 이메일 가져오기
-    String email = getEmailFromKakaoAccessToken(accessToken);
+    // 커넥션 풀/타임아웃/서킷 브레이커가 적용된 공유 클라이언트, 같은 토큰은 잠깐 동안 재사용
+    String email = kakaoClient.getEmail(accessToken);
 
     log.info("email: " + email );
 
-    // DB에 이미 회원이 있다면 → DTO로 변환 후 반환
-    Optional<Member> result = memberRepository.findById(email);
+    // 이미 회원이 있다면 → DTO로 변환 후 반환 (캐시에 없을 때만 DB 조회)
+    Optional<MemberPrincipalCache.MemberPrincipal> result = memberPrincipalCache.get(email);
 
     // 기존의 회원
     if(result.isPresent()){
-      MemberDTO memberDTO = entityToDTO(result.get());
+      MemberDTO memberDTO = result.get().toMemberDTO();
 
       return memberDTO;
     }
@@ -55,6 +57,7 @@ public class MemberServiceImpl implements MemberService {
     Member socialMember = makeSocialMember(email);
     log.info("socialMember: {}", socialMember);
     memberRepository.save(socialMember);
+    tokenRevocationList.revoke(email);
     log.info("저장 완료");
 
     MemberDTO memberDTO = entityToDTO(socialMember);
@@ -62,51 +65,6 @@ public class MemberServiceImpl implements MemberService {
     return memberDTO;
   }
 
-  private String getEmailFromKakaoAccessToken(String accessToken){
-
-    // 카카오에서 사용자 정보를 가져올 수 있는 REST API URL, 이 URL에 GET 요청을 보내면 사용자 프로필 정보가 JSON 형태로 돌아옵니다.
-    String kakaoGetUserURL = "https://kapi.kakao.com/v2/user/me";
-
-    // accessToken이 없으면 실행할 수 없으므로 예외 처리
-    if(accessToken == null){
-      throw new RuntimeException("Access Token is null");
-    }
-    // RestTemplate : Spring에서 REST API 호출을 쉽게 할 수 있게 해주는 클래스, HTTP 요청 보내고, 응답 받는 데 사용
-    RestTemplate restTemplate = new RestTemplate(); 
-
-    HttpHeaders headers = new HttpHeaders();
-    headers.add("Authorization", "Bearer " + accessToken); // 카카오 서버가 요청을 인증하도록 Bearer 토큰 방식으로 전달
-    headers.add("Content-Type","application/x-www-form-urlencoded"); // 요청 방식 지정 (GET에서도 헤더를 명시할 수 있음)
-    // HttpEntity : HTTP 요청 헤더와 바디를 담는 객체, 여기서는 GET 요청이라 바디는 필요 없고, 헤더만 담음
-    HttpEntity<String> entity = new HttpEntity<>(headers);
-
-    // URL을 안전하게 조합하고 URI 객체로 만드는 역할
-    UriComponents uriBuilder = UriComponentsBuilder.fromHttpUrl(kakaoGetUserURL).build();
-
-    ResponseEntity<LinkedHashMap> response =  // 결과는 JSON을 LinkedHashMap 형태로 변환
-      restTemplate.exchange( // exchange → REST API 호출
-      uriBuilder.toString(), 
-      HttpMethod.GET, 
-      entity, 
-      LinkedHashMap.class);
-
-    log.info(response);
-        
-    LinkedHashMap<String, LinkedHashMap> bodyMap = response.getBody(); // 카카오 API의 JSON 구조를 Map 구조로 변환
-
-    log.info("------------------------------");
-    log.info(bodyMap);
-
-    // kakao_account 키의 value는 Map 형태 - 여기서 이메일, 프로필 등 다양한 정보 추출 가능
-    LinkedHashMap<String, String> kakaoAccount = bodyMap.get("kakao_account");
-
-    log.info("kakaoAccount: " + kakaoAccount);
-
-    // 최종적으로 사용자 이메일을 반환, 이메일이 존재하지 않으면 null 반환 가능
-    return kakaoAccount.get("email");
-
-  }
-
    private String makeTempPassword() {
 
     // 멀티스레드 환경에서 여러 스레드가 공유된 자원(객체, 함수, 변수 등)
@@ -161,6 +119,7 @@ public class MemberServiceImpl implements MemberService {
     }
 
     memberRepository.save(member);
+    memberPrincipalCache.invalidate(member.getEmail());
   }
     @Override // 회원 가입
     public void join(MemberJoinDTO memberJoinDTO) {
@@ -1,22 +1,45 @@
 package com.desk.service;
 
 import com.desk.domain.TicketState;
+import com.desk.dto.CursorResponseDTO;
+import com.desk.dto.TicketBulkUpdateDTO;
 import com.desk.dto.TicketFilterDTO;
+import com.desk.dto.TicketInboxCountDTO;
 import com.desk.dto.TicketReceivedListDTO;
+import com.desk.dto.TicketReceivedRowDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface PersonalTicketService {
 
     // 받은 티켓 리스트 (페이징 + 필터)
-    Page<TicketReceivedListDTO> listRecieveTicket(String receiver, TicketFilterDTO filter, Pageable pageable);
+    Page<TicketReceivedRowDTO> listRecieveTicket(String receiver, TicketFilterDTO filter, Pageable pageable);
 
-    // 받은 티켓 단일 (pno 기준)
+    // 받은 티켓 리스트 (슬라이스 + 필터) --- 전체 개수 없이 다음 페이지 여부만
+    Slice<TicketReceivedRowDTO> listRecieveTicketSlice(String receiver, TicketFilterDTO filter, Pageable pageable);
+
+    // 받은 티켓 리스트 (커서 + 필터) --- after 보다 작은 pno 부터 size 개
+    CursorResponseDTO<TicketReceivedRowDTO> listRecieveTicketAfter(String receiver, TicketFilterDTO filter, Long after, int size);
+
+    // 받은 티켓 단일 (pno 기준) --- 본문은 상세에서만
     TicketReceivedListDTO readRecieveTicket(Long pno, String receiver, boolean markAsRead);
 
     // 받은 티켓 단일 (tno 기준)
     TicketReceivedListDTO readRecieveTicketByTno(Long tno, String receiver, boolean markAsRead);
 
-    // 진행상태 변경
+    // 진행상태 변경 (바뀐 값으로 다시 조회해서 반환), 바꿀 수 없는 상태면 InvalidStateTransitionException
     TicketReceivedListDTO changeState(Long pno, String receiver, TicketState state);
+
+    // 진행상태만 변경 (조회 없이 update 한 번), 바뀌었으면 true / 이미 그 상태면 false
+    boolean updateState(Long pno, String receiver, TicketState state);
+
+    // 일괄 읽음처리 (pnos 또는 filter), 바뀐 개수 반환
+    long markAsRead(String receiver, TicketBulkUpdateDTO req);
+
+    // 일괄 상태변경 (pnos 또는 filter), 바뀐 개수 반환
+    long changeStates(String receiver, TicketBulkUpdateDTO req);
+
+    // 받은함 배지 개수 (안읽음/상태별)
+    TicketInboxCountDTO getCounts(String receiver);
 }
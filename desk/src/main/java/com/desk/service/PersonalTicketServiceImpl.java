@@ -3,14 +3,26 @@ package com.desk.service;
 import com.desk.domain.Ticket;
 import com.desk.domain.TicketPersonal;
 import com.desk.domain.TicketState;
+import com.desk.dto.CursorResponseDTO;
+import com.desk.dto.TicketBulkUpdateDTO;
 import com.desk.dto.TicketFilterDTO;
+import com.desk.dto.TicketInboxCountDTO;
 import com.desk.dto.TicketReceivedListDTO;
+import com.desk.dto.TicketReceivedRowDTO;
+import com.desk.dto.TicketStateDTO;
+import com.desk.repository.InboxEntryRepository;
+import com.desk.repository.TicketCountCache;
+import com.desk.repository.TicketInboxCounterRepository;
 import com.desk.repository.TicketPersonalRepository;
+import com.desk.repository.TicketSummaryRepository;
+import com.desk.util.InvalidStateTransitionException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -22,70 +34,196 @@ public class PersonalTicketServiceImpl implements PersonalTicketService {
     * 받은 티켓 상태 변경(진행중 -> 완료 등...)
     */
 
+    // 일괄 변경 때 pnos 최대 개수
+    private static final int MAX_BULK_PNOS = 1000;
+
     // 리포지토리 불러와서 JPA 사용 (동적쿼리도...)
     private final TicketPersonalRepository ticketPersonalRepository;
+    // 받은함 개수 캐시 (읽음/상태가 바뀌면 필터별 개수도 바뀜)
+    private final TicketCountCache countCache;
+    // 받은함 배지 개수 (안읽음/상태별, 같은 트랜잭션에서 같이 갱신)
+    private final TicketInboxCounterRepository counterRepository;
+    // 받은함 목록 테이블 (읽음/상태가 바뀌면 같은 트랜잭션에서 같이 갱신)
+    private final InboxEntryRepository inboxEntryRepository;
+    // 보낸함 진행 현황 (읽음/상태가 바뀌면 티켓별 개수도 같은 트랜잭션에서 같이 갱신)
+    private final TicketSummaryRepository summaryRepository;
+    // 상세 조회 때 읽음처리 (모아서 update)
+    private final ReadReceiptBuffer readReceiptBuffer;
 
     // 받은 목록 조회
     @Override
     @Transactional(readOnly = true)
-    public Page<TicketReceivedListDTO> listRecieveTicket(String receiver, TicketFilterDTO filter, Pageable pageable) {
-        // QueryDSL로 동적 필터링 + fetch join (N+1 방지)
-        Page<TicketPersonal> page = ticketPersonalRepository.findAllWithTicket(receiver, filter, pageable);
+    public Page<TicketReceivedRowDTO> listRecieveTicket(String receiver, TicketFilterDTO filter, Pageable pageable) {
+        // QueryDSL로 동적 필터링 + 목록 컬럼만 Projections (본문 X, 엔티티 X)
+        return ticketPersonalRepository.findReceivedRows(receiver, filter, pageable);
+    }
 
-        // Page<TicketPersonal> 엔티티를 RecieveTicketDTO로 변환(요소 하나씩 map으로), Page<TicketReceivedListDTO>로 변환
-        return page.map(this::toRecieveTicketDTO);
+    // 슬라이스 목록 조회 (count 쿼리 없음)
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<TicketReceivedRowDTO> listRecieveTicketSlice(String receiver, TicketFilterDTO filter, Pageable pageable) {
+        return ticketPersonalRepository.findReceivedRowSlice(receiver, filter, pageable);
+    }
+
+    // 커서 목록 조회 (offset 없이 pno 기준으로 바로 찾아감)
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponseDTO<TicketReceivedRowDTO> listRecieveTicketAfter(String receiver, TicketFilterDTO filter, Long after, int size) {
+        List<TicketReceivedRowDTO> rows = ticketPersonalRepository.findReceivedRowsAfter(receiver, filter, after, size);
+
+        return CursorResponseDTO.<TicketReceivedRowDTO>withAll()
+                .rows(rows)
+                .size(size)
+                .cursorOf(TicketReceivedRowDTO::getPno)
+                .build();
     }
 
     // 단건 조회, 읽음처리, 권한체크(receiver로)
+    // 조회만 하는 트랜잭션 (읽음처리는 버퍼에 넣어두고 모아서 반영, 행 락 없음)
     @Override
+    @Transactional(readOnly = true)
     public TicketReceivedListDTO readRecieveTicket(Long tpno, String receiver, boolean markAsRead) {
-        // QueryDSL로 ticket fetch join (N+1 방지)
-        TicketPersonal tp = ticketPersonalRepository.findWithTicketByPno(tpno)
+        // PK 조회라 2차 캐시에서 가져옴 (ticket 도 지연 로딩 시 캐시)
+        TicketPersonal tp = ticketPersonalRepository.findById(tpno)
                 .orElseThrow(() -> new IllegalArgumentException("Inbox not found: " + tpno));
 
         if (!receiver.equals(tp.getReceiver())) {
             throw new IllegalArgumentException("Not allowed to read this inbox ticket.");
         }
+        return readInbox(tp, markAsRead);
+    }
+
+    // tno로 읽고 싶을 때 (알림 딥링크는 전부 이쪽)
+    // receiver + tno 조합으로 티켓 내용까지 쿼리 한 번에, 소유 확인은 where 에서 (pno 를 먼저 찾고 다시 조회하지 않음)
+    @Override
+    @Transactional(readOnly = true)
+    public TicketReceivedListDTO readRecieveTicketByTno(Long tno, String receiver, boolean markAsRead) {
+        TicketPersonal tp = ticketPersonalRepository.findInboxByReceiverAndTno(receiver, tno)
+                .orElseThrow(() -> new IllegalArgumentException("Inbox not found by receiver+tno. receiver=" + receiver + ", tno=" + tno));
+
+        return readInbox(tp, markAsRead);
+    }
+
+    // pno/tno 상세 조회 공통 (소유 확인은 끝난 것)
+    private TicketReceivedListDTO readInbox(TicketPersonal tp, boolean markAsRead) {
+        // DTO 변환 메서드는 맨 아래에
+        TicketReceivedListDTO dto = toRecieveTicketDTO(tp);
 
         // 이게 읽음처리입니다
-        // 처음 read하면 무조건 읽음되니까...
+        // 처음 read하면 무조건 읽음되니까... 응답은 바로 읽음으로, DB 는 ReadReceiptBuffer 가 flush 때 반영
         if (markAsRead && !tp.isIsread()) {
-            tp.changeRead(true);
+            readReceiptBuffer.mark(tp.getPno(), tp.getReceiver());
+            dto.setIsread(true);
         }
-
-        // DTO 변환 메서드는 맨 아래에
-        return toRecieveTicketDTO(tp);
+        return dto;
     }
 
-    // tno로 읽고 싶을 때
-    // receiver + tno 조합으로 tpno를 구해서 읽어옴
-    // 실제 읽는 로직은 위의 readRecieveTicket
+    // 상태변경 (바뀐 값으로 다시 조회해서 DTO 반환)
     @Override
-    public TicketReceivedListDTO readRecieveTicketByTno(Long tno, String receiver, boolean markAsRead) {
-        Long tpno = ticketPersonalRepository.findPnoByReceiverAndTno(receiver, tno)
-                .orElseThrow(() -> new IllegalArgumentException("Inbox not found by receiver+tno. receiver=" + receiver + ", tno=" + tno));
-        
-        return this.readRecieveTicket(tpno, receiver, markAsRead);
+    public TicketReceivedListDTO changeState(Long tpno, String receiver, TicketState state) {
+        updateState(tpno, receiver, state);
+
+        // update 후 영속성 컨텍스트/캐시에서 그 행을 비워서 바뀐 값으로 조회됨
+        TicketPersonal tp = ticketPersonalRepository.findById(tpno)
+                .orElseThrow(() -> new IllegalArgumentException("Inbox not found: " + tpno));
+        return toRecieveTicketDTO(tp);
     }
 
-    // 상태변경
+    // 상태만 변경 (조회 없음) --- 전이표(TicketState.predecessors)상 가능한 이전 상태일 때만 update, 바뀐 행 수로 성공 판단
     @Override
-    public TicketReceivedListDTO changeState(Long tpno, String receiver, TicketState state) {
-        // QueryDSL로 ticket fetch join (N+1 방지)
-        // 트랜잭션 중 아래 코드 실행되면 tp는 영속 상태가 됨
-        TicketPersonal tp = ticketPersonalRepository.findWithTicketByPno(tpno)
+    public boolean updateState(Long tpno, String receiver, TicketState state) {
+        if (!state.predecessors().isEmpty()
+                && ticketPersonalRepository.compareAndSetState(tpno, receiver, state, state.predecessors()) > 0) {
+            syncChanged(receiver, tpno);
+            return true;
+        }
+
+        // 안 바뀐 경우만 이유 확인 (없음 / 남의 것 / 이미 그 상태 / 바꿀 수 없는 상태)
+        TicketStateDTO tp = ticketPersonalRepository.findStateByPno(tpno)
                 .orElseThrow(() -> new IllegalArgumentException("Inbox not found: " + tpno));
 
         if (!receiver.equals(tp.getReceiver())) {
             throw new IllegalArgumentException("Not allowed to change state.");
         }
+        if (tp.getState() == state) {
+            return false; // 같은 상태면 그대로
+        }
+        throw new InvalidStateTransitionException(tp.getState(), state);
+    }
 
-        // 메모리에서 객체 필드 값 바꾸기
-        tp.changeState(state);
-        // dto로 변환
-        return toRecieveTicketDTO(tp);
-    } // 트랜잭션 끝나면 더티체킹(트랜잭션, 영속, 값 바뀜) 으로 update 됨
+    // 일괄 읽음처리 --- 조회/더티체킹 없이 update 한 번
+    @Override
+    public long markAsRead(String receiver, TicketBulkUpdateDTO req) {
+        checkBulkTarget(req);
+
+        long updated = ticketPersonalRepository.bulkMarkRead(receiver, req.getPnos(), req.getFilter());
+        if (updated > 0) {
+            syncInbox(receiver, req);
+            counterRepository.decreaseUnread(receiver, updated);
+            countCache.evict(TicketCountCache.Box.INBOX, receiver);
+        }
+        return updated;
+    }
+
+    // 일괄 상태변경 --- update 한 번, 이전 상태가 제각각이라 배지 개수는 다시 셈
+    @Override
+    public long changeStates(String receiver, TicketBulkUpdateDTO req) {
+        checkBulkTarget(req);
+        if (req.getState() == null) {
+            throw new IllegalArgumentException("state is required.");
+        }
+
+        long updated = ticketPersonalRepository.bulkChangeState(receiver, req.getPnos(), req.getFilter(), req.getState());
+        if (updated > 0) {
+            syncInbox(receiver, req);
+            counterRepository.recount(receiver);
+            countCache.evict(TicketCountCache.Box.INBOX, receiver);
+        }
+        return updated;
+    }
+
+    // 배지 개수 (받은 티켓이 없으면 전부 0)
+    @Override
+    @Transactional(readOnly = true)
+    public TicketInboxCountDTO getCounts(String receiver) {
+        return counterRepository.findCounts(receiver)
+                .orElseGet(() -> TicketInboxCountDTO.builder().receiver(receiver).build());
+    }
+
+    // 단건 상태변경 후 배지 개수, 보낸함 진행 현황, 받은함 목록 테이블을 맞춤
+    // 앞의 둘은 inbox_entry 의 이전 값과 비교해서 차이만 더하므로 목록 테이블은 마지막에
+    private void syncChanged(String receiver, Long pno) {
+        List<Long> pnos = List.of(pno);
+        counterRepository.applyChanges(receiver, pnos);
+        summaryRepository.applyChanges(receiver, pnos);
+        inboxEntryRepository.syncFromPersonals(receiver, pnos);
+        countCache.evict(TicketCountCache.Box.INBOX, receiver);
+    }
+
+    // 일괄 변경 후 받은함 목록 테이블을 ticket_personal 에 맞춤 (pnos 가 있으면 그 행만)
+    // 보낸함 진행 현황은 inbox_entry 의 이전 값과 비교해서 차이만 더하므로 목록을 맞추기 전에
+    private void syncInbox(String receiver, TicketBulkUpdateDTO req) {
+        if (req.getPnos() != null && !req.getPnos().isEmpty()) {
+            summaryRepository.applyChanges(receiver, req.getPnos());
+            inboxEntryRepository.syncFromPersonals(receiver, req.getPnos());
+            return;
+        }
+        summaryRepository.applyChanges(receiver);
+        inboxEntryRepository.syncFromPersonals(receiver);
+    }
+
+    // pnos 도 filter 도 없으면 받은함 전체가 바뀌므로 막아둠, pnos 는 IN 절이 너무 길어지지 않게 제한
+    private void checkBulkTarget(TicketBulkUpdateDTO req) {
+        boolean hasPnos = req.getPnos() != null && !req.getPnos().isEmpty();
+        if (!hasPnos && req.getFilter() == null) {
+            throw new IllegalArgumentException("pnos or filter is required.");
+        }
+        if (hasPnos && req.getPnos().size() > MAX_BULK_PNOS) {
+            throw new IllegalArgumentException("Too many pnos: " + req.getPnos().size() + " (max " + MAX_BULK_PNOS + ")");
+        }
+    }
 
+    // 상세용 (본문 포함), 목록은 리포지토리에서 TicketReceivedRowDTO 로 바로 받음
     private TicketReceivedListDTO toRecieveTicketDTO(TicketPersonal tp) {
         Ticket t = tp.getTicket();
         return TicketReceivedListDTO.builder()
@@ -0,0 +1,244 @@
+package com.desk.service;
+
+import com.desk.dto.ReadReceiptStatsDTO;
+import com.desk.repository.InboxEntryRepository;
+import com.desk.repository.TicketCountCache;
+import com.desk.repository.TicketInboxCounterRepository;
+import com.desk.repository.TicketPersonalRepository;
+import com.desk.repository.TicketSummaryRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/*
+ * 받은 티켓 읽음처리 write-behind 버퍼 (pno -> receiver)
+ * 상세 조회(GET)가 쓰기 트랜잭션/행 락을 잡지 않도록 읽음처리는 여기 모아두고
+ * flush-interval 마다 batch-size 개씩 update ... where pno in (...) 한 번으로 반영
+ *  - pno 해시로 나눈 stripe 마다 락을 따로 잡아서 조회가 몰려도 서로 덜 기다림 (같은 pno 는 한 번만)
+ *  - 배지 개수/보낸함 진행 현황/받은함 목록도 같은 트랜잭션에서 같이 맞춤
+ *  - 실패하면 다시 버퍼에 넣고 다음 flush 때 재시도, 서버 종료 때 남은 것 전부 반영
+ * 반영 전까지(최대 flush-interval) 목록/배지에는 안 읽음으로 보일 수 있음 (상세는 바로 읽음으로 응답)
+ * flush-interval 이 0 이면 자동 flush 없음 (flush() 를 직접 호출)
+ */
+@Component
+@Log4j2
+public class ReadReceiptBuffer {
+
+    private static final int STRIPES = 16;
+
+    private final TicketPersonalRepository ticketPersonalRepository;
+    private final TicketInboxCounterRepository counterRepository;
+    private final TicketSummaryRepository summaryRepository;
+    private final InboxEntryRepository inboxEntryRepository;
+    private final TicketCountCache countCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final ScheduledExecutorService scheduler;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger peakPending = new AtomicInteger();
+    private final AtomicLong marked = new AtomicLong();
+    private final AtomicLong flushedRows = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong lastFlushMillis = new AtomicLong();
+    private final AtomicLong maxFlushMillis = new AtomicLong();
+    private final AtomicLong totalFlushMillis = new AtomicLong();
+
+    public ReadReceiptBuffer(TicketPersonalRepository ticketPersonalRepository,
+                             TicketInboxCounterRepository counterRepository,
+                             TicketSummaryRepository summaryRepository,
+                             InboxEntryRepository inboxEntryRepository,
+                             TicketCountCache countCache,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${ticket.read-receipt.flush-interval:1s}") Duration flushInterval,
+                             @Value("${ticket.read-receipt.batch-size:500}") int batchSize) {
+        this.ticketPersonalRepository = ticketPersonalRepository;
+        this.counterRepository = counterRepository;
+        this.summaryRepository = summaryRepository;
+        this.inboxEntryRepository = inboxEntryRepository;
+        this.countCache = countCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+
+        if (flushInterval.isZero()) {
+            this.scheduler = null;
+            return;
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "read-receipt-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = flushInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    // 읽음처리 예약 (소유 확인은 호출하는 쪽에서), 배치 하나만큼 쌓이면 주기를 기다리지 않고 flush
+    public void mark(Long pno, String receiver) {
+        if (!put(pno, receiver)) {
+            return;
+        }
+        marked.incrementAndGet();
+        if (pending.get() >= batchSize && scheduler != null && flushRequested.compareAndSet(false, true)) {
+            scheduler.execute(this::flushQuietly);
+        }
+    }
+
+    // 버퍼를 비우고 batch-size 개씩 반영, 반영된 행 수 반환 (flush 는 한 번에 하나만)
+    // 호출한 쪽에 트랜잭션이 있으면 그 트랜잭션에 참여
+    public synchronized long flush() {
+        flushRequested.set(false);
+        List<Map.Entry<Long, String>> drained = drain();
+        long updated = 0;
+        for (int from = 0; from < drained.size(); from += batchSize) {
+            updated += flushBatch(drained.subList(from, Math.min(from + batchSize, drained.size())));
+        }
+        return updated;
+    }
+
+    // 관리자 통계
+    public ReadReceiptStatsDTO getStats() {
+        long count = flushes.get();
+        return ReadReceiptStatsDTO.builder()
+                .pending(pending.get())
+                .peakPending(peakPending.get())
+                .marked(marked.get())
+                .flushedRows(flushedRows.get())
+                .flushes(count)
+                .failures(failures.get())
+                .lastFlushMillis(lastFlushMillis.get())
+                .maxFlushMillis(maxFlushMillis.get())
+                .avgFlushMillis(count == 0 ? 0 : (double) totalFlushMillis.get() / count)
+                .build();
+    }
+
+    // 서버 종료 시 남은 읽음처리 반영
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        long updated = flush();
+        log.info("[ReadReceipt] 종료 전 반영 | 행수={} | 남은것={}", updated, pending.get());
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("[ReadReceipt] flush 실패", e);
+        }
+    }
+
+    private long flushBatch(List<Map.Entry<Long, String>> batch) {
+        long start = System.nanoTime();
+        try {
+            Integer updated = transactionTemplate.execute(status -> apply(batch));
+            long rows = updated == null ? 0 : updated;
+            flushedRows.addAndGet(rows);
+            return rows;
+        } catch (RuntimeException e) {
+            failures.incrementAndGet();
+            batch.forEach(entry -> put(entry.getKey(), entry.getValue()));
+            log.warn("[ReadReceipt] 배치 반영 실패, 다시 버퍼에 넣음 | 건수={} | {}", batch.size(), e.getMessage());
+            return 0;
+        } finally {
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            flushes.incrementAndGet();
+            lastFlushMillis.set(millis);
+            maxFlushMillis.accumulateAndGet(millis, Math::max);
+            totalFlushMillis.addAndGet(millis);
+        }
+    }
+
+    // 읽음 update 한 번 후 바뀐 행 기준으로 배지/진행 현황/목록 테이블을 수신자별로 맞춤
+    // (inbox_entry 의 이전 값과 비교하므로 목록 테이블은 마지막에, PersonalTicketServiceImpl 의 단건 변경과 같은 순서)
+    private int apply(List<Map.Entry<Long, String>> batch) {
+        List<Long> pnos = batch.stream().map(Map.Entry::getKey).toList();
+        int updated = ticketPersonalRepository.markReadAll(pnos);
+        if (updated == 0) {
+            return 0;
+        }
+
+        Map<String, List<Long>> byReceiver = batch.stream().collect(Collectors.groupingBy(
+                Map.Entry::getValue, Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+        byReceiver.forEach((receiver, receiverPnos) -> {
+            counterRepository.applyChanges(receiver, receiverPnos);
+            summaryRepository.applyChanges(receiver, receiverPnos);
+            inboxEntryRepository.syncFromPersonals(receiver, receiverPnos);
+        });
+        countCache.evict(TicketCountCache.Box.INBOX, byReceiver.keySet());
+        return updated;
+    }
+
+    // 같은 pno 가 이미 있으면 false
+    private boolean put(Long pno, String receiver) {
+        Stripe stripe = stripes[Math.floorMod(pno.hashCode(), STRIPES)];
+        stripe.lock.lock();
+        try {
+            if (stripe.pending.putIfAbsent(pno, receiver) != null) {
+                return false;
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+        peakPending.accumulateAndGet(pending.incrementAndGet(), Math::max);
+        return true;
+    }
+
+    // stripe 마다 통째로 바꿔치기 (락은 교체하는 동안만)
+    private List<Map.Entry<Long, String>> drain() {
+        List<Map.Entry<Long, String>> drained = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            Map<Long, String> taken;
+            stripe.lock.lock();
+            try {
+                if (stripe.pending.isEmpty()) {
+                    continue;
+                }
+                taken = stripe.pending;
+                stripe.pending = new HashMap<>();
+            } finally {
+                stripe.lock.unlock();
+            }
+            pending.addAndGet(-taken.size());
+            drained.addAll(taken.entrySet());
+        }
+        return drained;
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private Map<Long, String> pending = new HashMap<>();
+    }
+}
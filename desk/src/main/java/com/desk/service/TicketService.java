@@ -3,6 +3,9 @@ package com.desk.service;
 import com.desk.dto.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
 
 public interface TicketService {
 
@@ -10,11 +13,23 @@ public interface TicketService {
     TicketSentListDTO create(TicketCreateDTO req, String writer);
 
     // 보낸 티켓 목록(페이징 + 필터)
-    Page<TicketSentListDTO> listSent(String writer, TicketFilterDTO filter, Pageable pageable);
+    Page<TicketSentRowDTO> listSent(String writer, TicketFilterDTO filter, Pageable pageable);
+
+    // 보낸 티켓 목록(슬라이스 + 필터) --- 전체 개수 없이 다음 페이지 여부만
+    Slice<TicketSentRowDTO> listSentSlice(String writer, TicketFilterDTO filter, Pageable pageable);
+
+    // 보낸 티켓 목록(커서 + 필터) --- after 보다 작은 tno 부터 size 개
+    CursorResponseDTO<TicketSentRowDTO> listSentAfter(String writer, TicketFilterDTO filter, Long after, int size);
 
-    // 보낸 티켓 단일 상세
+    // 보낸 티켓 단일 상세 --- 본문은 상세에서만
     TicketSentListDTO readSent(Long tno, String writer);
 
+    // 보낸 티켓의 수신자별 상태(페이징) --- 목록에는 진행 현황 개수만 있으므로
+    Page<TicketStateDTO> listReceivers(Long tno, String writer, Pageable pageable);
+
     // 삭제
     void deleteSent(Long tno, String writer);
+
+    // 일괄 삭제 (writer 가 쓴 티켓만, 하나라도 아니면 전부 취소), 삭제된 개수 반환
+    long deleteSent(List<Long> tnos, String writer);
 }
@@ -3,23 +3,61 @@ package com.desk.service;
 import com.desk.domain.Ticket;
 import com.desk.domain.TicketPersonal;
 import com.desk.dto.*;
+import com.desk.repository.InboxEntryRepository;
+import com.desk.repository.MemberRepository;
+import com.desk.repository.TicketCountCache;
+import com.desk.repository.TicketInboxCounterRepository;
+import com.desk.repository.TicketPersonalRepository;
 import com.desk.repository.TicketRepository;
+import com.desk.repository.TicketSearchIndex;
+import com.desk.repository.TicketSummaryRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Log4j2
 public class TicketServiceImpl implements TicketService {
 
     private final TicketRepository ticketRepository;
+    // 보낸함/받은함 개수 캐시 (생성/삭제 시 관련된 사람 것만 무효화)
+    private final TicketCountCache countCache;
+    // 키워드 검색 역색인 (생성/삭제 시 반영)
+    private final TicketSearchIndex searchIndex;
+    // 받은함 배지 개수 (수신자별, 같은 트랜잭션에서 같이 갱신)
+    private final TicketInboxCounterRepository counterRepository;
+    // 전체 발송 (부서/권한) 수신자 조회, 수신자 행 insert
+    private final MemberRepository memberRepository;
+    private final TicketPersonalRepository ticketPersonalRepository;
+    // 받은함 목록 테이블 (생성/삭제 시 같은 트랜잭션에서 같이 반영)
+    private final InboxEntryRepository inboxEntryRepository;
+    // 보낸함 진행 현황 (생성/삭제 시 같은 트랜잭션에서 같이 반영)
+    private final TicketSummaryRepository summaryRepository;
+
+    // 전체 발송을 DB 에서 바로 insert ... select 로 할지 (false 면 회원을 끊어 읽어서 묶음 insert)
+    @Value("${ticket.broadcast.insert-select:true}")
+    private boolean broadcastInsertSelect;
+
+    // 전체 발송 시 회원을 한 번에 몇 명씩 읽어서 넣을지
+    private static final int BROADCAST_CHUNK = 1000;
+    // 일괄 삭제 한 번에 최대 티켓 수 (IN 절 길이 제한)
+    private static final int MAX_BULK_TNOS = 1000;
 
     @Override
     public TicketSentListDTO create(TicketCreateDTO req, String writer) {
+        if (req.isBroadcast() && req.getReceivers() != null && !req.getReceivers().isEmpty()) {
+            throw new IllegalArgumentException("Use either receivers or department/role, not both.");
+        }
 
         Ticket ticket = Ticket.builder()
                 .title(req.getTitle())
@@ -31,31 +69,103 @@ public class TicketServiceImpl implements TicketService {
                 .writer(writer)
                 .build();
 
-        // 수신인마다 TicketPersonal 1개씩 생성해서 연결
-        for (String r : req.getReceivers()) {
-            TicketPersonal tp = TicketPersonal.builder()
-                    .receiver(r)
-                    .build();
-            ticket.addPersonal(tp); // setTicket(this)까지 같이 처리
+        // 수신인마다 TicketPersonal 1개씩 생성해서 연결 (전체 발송은 저장 후 따로)
+        if (!req.isBroadcast()) {
+            for (String r : req.getReceivers()) {
+                TicketPersonal tp = TicketPersonal.builder()
+                        .receiver(r)
+                        .build();
+                ticket.addPersonal(tp); // setTicket(this)까지 같이 처리
+            }
         }
 
         Ticket saved = ticketRepository.save(ticket);
+        if (req.isBroadcast()) {
+            broadcast(saved, req);
+        }
+
+        // 방금 저장된 수신자 행 기준으로 수신자별 +1 (한 번의 insert ... select)
+        counterRepository.increaseByTicket(saved.getTno());
+        // 받은함 목록 행도 수신자 행 + 티켓 목록 컬럼으로 한 번에 (insert ... select)
+        inboxEntryRepository.insertByTicket(saved.getTno());
+        // 보낸함 진행 현황 한 줄 (수신자 수, 전부 NEW / 안 읽음)
+        summaryRepository.insertByTicket(saved.getTno());
+        searchIndex.add(saved.getTno());
+
+        countCache.evict(TicketCountCache.Box.SENT, writer);
+        if (req.isBroadcast()) {
+            // 누가 받았는지 애플리케이션에서는 모르므로 받은함 개수는 전부 무효화
+            countCache.evictAll(TicketCountCache.Box.INBOX);
+        } else {
+            countCache.evict(TicketCountCache.Box.INBOX, req.getReceivers());
+        }
+
+        // 전체 발송은 수신자를 메모리에 올리지 않으므로 personals 는 비어 있음 (상세 조회로 확인)
         return toSentDetailDTO(saved);
     }
 
+    // 전체 발송 --- 수신자 목록을 메모리에 다 올리지 않음
+    private void broadcast(Ticket ticket, TicketCreateDTO req) {
+        if (broadcastInsertSelect) {
+            long inserted = ticketPersonalRepository.insertBroadcast(ticket.getTno(), req.getDepartment(), req.getRole());
+            log.info("[Ticket] 전체 발송(insert-select) | 티켓번호={} | 부서={} | 권한={} | 수신자수={}",
+                    ticket.getTno(), req.getDepartment(), req.getRole(), inserted);
+            return;
+        }
+
+        // 회원을 email 순서로 BROADCAST_CHUNK 명씩 읽어서 묶음 insert (묶음마다 flush/clear)
+        String after = "";
+        long inserted = 0;
+        while (true) {
+            List<String> emails = memberRepository.findBroadcastEmails(
+                    req.getDepartment(), req.getRole(), after, PageRequest.of(0, BROADCAST_CHUNK));
+            if (emails.isEmpty()) {
+                break;
+            }
+            ticketPersonalRepository.insertPersonals(ticket, emails);
+            inserted += emails.size();
+
+            if (emails.size() < BROADCAST_CHUNK) {
+                break;
+            }
+            after = emails.get(emails.size() - 1);
+        }
+        log.info("[Ticket] 전체 발송(chunk) | 티켓번호={} | 부서={} | 권한={} | 수신자수={}",
+                ticket.getTno(), req.getDepartment(), req.getRole(), inserted);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TicketSentRowDTO> listSent(String writer, TicketFilterDTO filter, Pageable pageable) {
+        // QueryDSL로 동적 필터링 + 목록 컬럼만 Projections (본문 X, 수신자 상태는 IN 으로 한 번에)
+        return ticketRepository.findSentRows(writer, filter, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<TicketSentRowDTO> listSentSlice(String writer, TicketFilterDTO filter, Pageable pageable) {
+        // count 쿼리 없이 다음 페이지 여부만 (무한스크롤용)
+        return ticketRepository.findSentRowSlice(writer, filter, pageable);
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public Page<TicketSentListDTO> listSent(String writer, TicketFilterDTO filter, Pageable pageable) {
-        // QueryDSL로 동적 필터링 + fetch join (N+1 방지)
-        Page<Ticket> page = ticketRepository.findAllWithPersonalList(writer, filter, pageable);
-        return page.map(this::toSentDetailDTO);
+    public CursorResponseDTO<TicketSentRowDTO> listSentAfter(String writer, TicketFilterDTO filter, Long after, int size) {
+        // offset 없이 tno 기준으로 바로 찾아감 (수신자 상태는 IN 으로 한 번에)
+        List<TicketSentRowDTO> rows = ticketRepository.findSentRowsAfter(writer, filter, after, size);
+
+        return CursorResponseDTO.<TicketSentRowDTO>withAll()
+                .rows(rows)
+                .size(size)
+                .cursorOf(TicketSentRowDTO::getTno)
+                .build();
     }
 
     @Override
     @Transactional(readOnly = true)
     public TicketSentListDTO readSent(Long tno, String writer) {
-        // QueryDSL로 personalList fetch join (N+1 방지)
-        Ticket ticket = ticketRepository.findWithPersonalListById(tno)
+        // fetch join 쿼리는 2차 캐시를 못 타서 PK 조회 + 수신자 목록은 지연 로딩 (둘 다 캐시)
+        Ticket ticket = ticketRepository.findById(tno)
                 .orElseThrow(() -> new IllegalArgumentException("Ticket not found: " + tno));
 
         // 보낸 사람 검증
@@ -66,19 +176,71 @@ public class TicketServiceImpl implements TicketService {
         return toSentDetailDTO(ticket);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TicketStateDTO> listReceivers(Long tno, String writer, Pageable pageable) {
+        String owner = ticketRepository.findWriterByTno(tno)
+                .orElseThrow(() -> new IllegalArgumentException("Ticket not found: " + tno));
+
+        if (!writer.equals(owner)) {
+            throw new IllegalArgumentException("Not allowed to read this ticket.");
+        }
+
+        return ticketPersonalRepository.findReceiverStates(tno, pageable);
+    }
+
     @Override
     public void deleteSent(Long tno, String writer) {
-        Ticket ticket = ticketRepository.findById(tno)
+        String owner = ticketRepository.findWriterByTno(tno)
                 .orElseThrow(() -> new IllegalArgumentException("Ticket not found: " + tno));
 
-        if (!writer.equals(ticket.getWriter())) {
+        if (!writer.equals(owner)) {
             throw new IllegalArgumentException("Not allowed to delete this ticket.");
         }
 
-        // Ticket 삭제 시 TicketPersonal도 함께 삭제
-        ticketRepository.delete(ticket);
+        deleteTickets(List.of(tno), writer);
+    }
+
+    // 일괄 삭제 --- 하나라도 없거나 남의 티켓이면 전부 취소
+    @Override
+    public long deleteSent(List<Long> tnos, String writer) {
+        if (tnos == null || tnos.isEmpty()) {
+            throw new IllegalArgumentException("tno is required.");
+        }
+        Set<Long> targets = new LinkedHashSet<>(tnos);
+        if (targets.size() > MAX_BULK_TNOS) {
+            throw new IllegalArgumentException("Too many tickets: " + targets.size() + " (max " + MAX_BULK_TNOS + ")");
+        }
+
+        List<Long> owned = ticketRepository.findOwnedTnos(writer, targets);
+        if (owned.size() != targets.size()) {
+            targets.removeAll(owned);
+            throw new IllegalArgumentException("Not allowed to delete tickets: " + targets);
+        }
+
+        return deleteTickets(owned, writer);
+    }
+
+    // 소유 확인이 끝난 티켓 삭제 --- 엔티티/수신자 목록을 읽지 않고 delete 문 두 번
+    // (cascade 로 지우면 수신자 행을 전부 읽어서 한 건씩 delete 하느라 전체 발송 티켓은 락을 오래 잡음)
+    private long deleteTickets(List<Long> tnos, String writer) {
+        countCache.evict(TicketCountCache.Box.SENT, writer);
+        countCache.evict(TicketCountCache.Box.INBOX, ticketPersonalRepository.findReceiversByTnos(tnos));
+
+        // 수신자 행이 지워지기 전에 수신자별 -1
+        counterRepository.decreaseByTickets(tnos);
+
+        inboxEntryRepository.deleteByTnos(tnos);
+        summaryRepository.deleteByTnos(tnos);
+        int personals = ticketPersonalRepository.deleteByTnos(tnos);
+        int deleted = ticketRepository.deleteByTnos(tnos);
+        searchIndex.remove(tnos);
+
+        log.debug("[Ticket] 티켓 삭제 | 작성자={} | 티켓수={} | 수신자행={}", writer, deleted, personals);
+        return deleted;
     }
 
+    // 상세용 (본문 포함), 목록은 리포지토리에서 TicketSentRowDTO 로 바로 받음
     private TicketSentListDTO toSentDetailDTO(Ticket t) {
         return TicketSentListDTO.builder()
                 .tno(t.getTno())
@@ -0,0 +1,73 @@
+package com.desk.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/*
+ * 외부 API 호출용 간단한 서킷 브레이커
+ *  - CLOSED: 정상 호출, 연속 실패가 failureThreshold 번이면 OPEN
+ *  - OPEN: openDuration 동안 호출하지 않고 바로 실패 (느린 외부 서버를 기다리며 요청 스레드가 쌓이지 않게)
+ *  - HALF_OPEN: openDuration 이 지나면 한 요청만 시험 호출, 성공하면 CLOSED / 실패하면 다시 OPEN
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final LongSupplier clock;
+
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong(-1);
+    private final AtomicBoolean probing = new AtomicBoolean();
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, System::currentTimeMillis);
+    }
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier clock) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openDuration.toMillis();
+        this.clock = clock;
+    }
+
+    // 호출해도 되는지 (false 면 호출하지 말고 바로 실패 처리)
+    public boolean tryAcquire() {
+        long opened = openedAt.get();
+        if (opened < 0) {
+            return true;
+        }
+        if (clock.getAsLong() - opened < openMillis) {
+            return false;
+        }
+        // 시험 호출은 한 번에 하나만
+        return probing.compareAndSet(false, true);
+    }
+
+    public void onSuccess() {
+        failures.set(0);
+        openedAt.set(-1);
+        probing.set(false);
+    }
+
+    public void onFailure() {
+        if (probing.compareAndSet(true, false)) {
+            openedAt.set(clock.getAsLong());
+            return;
+        }
+        if (failures.incrementAndGet() >= failureThreshold) {
+            openedAt.compareAndSet(-1, clock.getAsLong());
+        }
+    }
+
+    public State getState() {
+        long opened = openedAt.get();
+        if (opened < 0) {
+            return State.CLOSED;
+        }
+        return clock.getAsLong() - opened < openMillis ? State.OPEN : State.HALF_OPEN;
+    }
+}
@@ -0,0 +1,10 @@
+package com.desk.util;
+
+import com.desk.domain.TicketState;
+
+public class InvalidStateTransitionException extends RuntimeException {
+
+    public InvalidStateTransitionException(TicketState from, TicketState to) {
+        super("Cannot change state from " + from + " to " + to); // 전이표(TicketState.predecessors)상 불가
+    }
+}
@@ -1,6 +1,7 @@
 package com.desk.util;
 
 
+import java.nio.charset.StandardCharsets;
 import java.time.ZonedDateTime;
 import java.util.Date;
 import java.util.Map;
@@ -10,6 +11,7 @@ import javax.crypto.SecretKey;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.InvalidClaimException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.Keys;
@@ -20,25 +22,22 @@ public class JWTUtil {
     
    private static String key = "1234567890123456789012345678901234567890";
 
+    // HMAC SHA256 서명 키와 파서는 한 번만 만들어서 재사용 (JwtParser 는 불변이라 여러 요청이 같이 써도 됨)
+    private static final SecretKey SIGNING_KEY = Keys.hmacShaKeyFor(key.getBytes(StandardCharsets.UTF_8));
+    private static final JwtParser PARSER = Jwts.parserBuilder()
+            .setSigningKey(SIGNING_KEY)
+            .build();
+
     // JWT 생성, valueMap → JWT payload(claims)에 담길 정보 (예: email, role), min → 토큰 만료 시간 (분 단위)
     public static String generateToken(Map<String, Object> valueMap, int min){
 
-        SecretKey key = null;
-
-        try{ // HMAC SHA256 방식으로 서명용 키 객체 생성, key.getBytes("UTF-8") → 문자열 키를 바이트로 변환
-            key = Keys.hmacShaKeyFor(JWTUtil.key.getBytes("UTF-8"));
-
-        }catch(Exception e){
-            throw new RuntimeException(e.getMessage());
-        }
-
         // JWT 빌드
         String jwtStr = Jwts.builder()
             .setHeader(Map.of("typ","JWT"))
             .setClaims(valueMap)
             .setIssuedAt(Date.from(ZonedDateTime.now().toInstant()))
             .setExpiration(Date.from(ZonedDateTime.now().plusMinutes(min).toInstant()))
-            .signWith(key)
+            .signWith(SIGNING_KEY)
             .compact();
 
         return jwtStr;
@@ -49,12 +48,8 @@ public class JWTUtil {
     Map<String, Object> claim = null;
     
     try{
-      // SecretKey 재생성, 서명 검증을 위해 동일한 키 사용
-      SecretKey key = Keys.hmacShaKeyFor(JWTUtil.key.getBytes("UTF-8"));
-      // JWT 파싱 및 검증, 성공 시 JWT payload(claims)를 Map으로 반환
-      claim = Jwts.parserBuilder()
-              .setSigningKey(key)
-              .build()
+      // JWT 파싱 및 검증 (서명 키는 생성 때와 동일), 성공 시 JWT payload(claims)를 Map으로 반환
+      claim = PARSER
               .parseClaimsJws(token) // 서명 검증, payload 추출, 실패 시 에러
               .getBody();
               
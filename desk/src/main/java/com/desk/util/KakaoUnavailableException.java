@@ -0,0 +1,8 @@
+package com.desk.util;
+
+public class KakaoUnavailableException extends RuntimeException {
+
+    public KakaoUnavailableException(Throwable cause) {
+        super("KAKAO_UNAVAILABLE", cause); // 프론트에서 이 메시지로 "잠시 후 다시" 안내
+    }
+}
@@ -0,0 +1,23 @@
+-- 티켓 테이블 (기존에 ddl-auto 로 만들어진 DB 는 baseline(1) 으로 잡혀서 이 파일은 건너뜀)
+CREATE TABLE IF NOT EXISTS ticket (
+    tno         BIGINT NOT NULL AUTO_INCREMENT,
+    birth       DATETIME(6) NULL,
+    content     VARCHAR(255) NULL,
+    deadline    DATETIME(6) NULL,
+    grade       ENUM('HIGH','LOW','MIDDLE','URGENT') NULL,
+    purpose     VARCHAR(255) NULL,
+    requirement VARCHAR(255) NULL,
+    title       VARCHAR(255) NULL,
+    writer      VARCHAR(255) NULL,
+    PRIMARY KEY (tno)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS ticket_personal (
+    pno      BIGINT NOT NULL AUTO_INCREMENT,
+    isread   BIT(1) NOT NULL,
+    receiver VARCHAR(255) NULL,
+    state    ENUM('DONE','IN_PROGRESS','NEED_INFO','NEW') NULL,
+    tp_tno   BIGINT NULL,
+    PRIMARY KEY (pno),
+    CONSTRAINT FKc1houeclybuw81t5l3ucjxglr FOREIGN KEY (tp_tno) REFERENCES ticket (tno)
+) ENGINE = InnoDB;
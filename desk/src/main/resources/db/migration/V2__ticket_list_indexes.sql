@@ -0,0 +1,9 @@
+-- 받은함: receiver 로 찾고 pno 역순 정렬 (상태/읽음 필터는 각각 전용 인덱스)
+CREATE INDEX IF NOT EXISTS idx_tp_receiver_pno ON ticket_personal (receiver, pno);
+CREATE INDEX IF NOT EXISTS idx_tp_receiver_state_pno ON ticket_personal (receiver, state, pno);
+CREATE INDEX IF NOT EXISTS idx_tp_receiver_isread_pno ON ticket_personal (receiver, isread, pno);
+-- findInboxByReceiverAndTno (receiver + tno 로 받은 티켓 상세, 알림 딥링크)
+CREATE INDEX IF NOT EXISTS idx_tp_receiver_tno ON ticket_personal (receiver, tp_tno);
+
+-- 보낸함: writer 로 찾고 tno 역순 정렬
+CREATE INDEX IF NOT EXISTS idx_ticket_writer_tno ON ticket (writer, tno);
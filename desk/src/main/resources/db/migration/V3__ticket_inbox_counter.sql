@@ -0,0 +1,31 @@
+-- 받은함 배지용 개수 (받은이별 전체/안읽음/상태별)
+CREATE TABLE IF NOT EXISTS ticket_inbox_counter (
+    receiver          VARCHAR(255) NOT NULL,
+    total             BIGINT NOT NULL DEFAULT 0,
+    unread            BIGINT NOT NULL DEFAULT 0,
+    state_new         BIGINT NOT NULL DEFAULT 0,
+    state_in_progress BIGINT NOT NULL DEFAULT 0,
+    state_need_info   BIGINT NOT NULL DEFAULT 0,
+    state_done        BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (receiver)
+) ENGINE = InnoDB;
+
+-- 기존 받은 티켓으로 채우기
+INSERT INTO ticket_inbox_counter
+    (receiver, total, unread, state_new, state_in_progress, state_need_info, state_done)
+SELECT receiver,
+       COUNT(*),
+       COALESCE(SUM(isread = 0), 0),
+       COALESCE(SUM(state = 'NEW'), 0),
+       COALESCE(SUM(state = 'IN_PROGRESS'), 0),
+       COALESCE(SUM(state = 'NEED_INFO'), 0),
+       COALESCE(SUM(state = 'DONE'), 0)
+FROM ticket_personal
+WHERE receiver IS NOT NULL
+GROUP BY receiver
+ON DUPLICATE KEY UPDATE total             = VALUES(total),
+                        unread            = VALUES(unread),
+                        state_new         = VALUES(state_new),
+                        state_in_progress = VALUES(state_in_progress),
+                        state_need_info   = VALUES(state_need_info),
+                        state_done        = VALUES(state_done);
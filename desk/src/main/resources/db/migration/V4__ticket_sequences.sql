@@ -0,0 +1,15 @@
+-- Ticket / TicketPersonal id 를 IDENTITY 에서 시퀀스로 (insert 배치용)
+-- 하이버네이트가 블록 단위로 미리 받아가므로 INCREMENT BY 는 allocationSize 와 같아야 함
+-- (ticket 50, ticket_personal 500 --- 수신자가 수천 명인 티켓이 있어서)
+-- 기존 데이터와 겹치지 않게 현재 최대값 + 1 부터 시작 (START WITH 에는 상수만 되므로 동적 SQL)
+SET @ticket_start = (SELECT COALESCE(MAX(tno), 0) + 1 FROM ticket);
+SET @sql = CONCAT('CREATE SEQUENCE IF NOT EXISTS ticket_seq START WITH ', @ticket_start, ' INCREMENT BY 50');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @personal_start = (SELECT COALESCE(MAX(pno), 0) + 1 FROM ticket_personal);
+SET @sql = CONCAT('CREATE SEQUENCE IF NOT EXISTS ticket_personal_seq START WITH ', @personal_start, ' INCREMENT BY 500');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,43 @@
+-- 받은함 목록 전용 테이블 (ticket_personal + ticket 목록 컬럼을 한 줄에)
+-- 목록/필터/개수 조회가 ticket 과 join 하지 않도록 티켓 생성/삭제, 읽음처리, 상태변경 때 같은 트랜잭션에서 같이 갱신
+-- PK 를 (receiver, pno) 로 잡아서 수신자별로 pno 순서대로 모여 있게 함 (목록 조회가 PK 범위만 읽음)
+CREATE TABLE IF NOT EXISTS inbox_entry (
+    receiver VARCHAR(255) NOT NULL,
+    pno      BIGINT NOT NULL,
+    tno      BIGINT NOT NULL,
+    title    VARCHAR(255) NULL,
+    grade    ENUM('HIGH','LOW','MIDDLE','URGENT') NULL,
+    birth    DATETIME(6) NULL,
+    deadline DATETIME(6) NULL,
+    writer   VARCHAR(255) NULL,
+    state    ENUM('DONE','IN_PROGRESS','NEED_INFO','NEW') NOT NULL,
+    isread   BIT(1) NOT NULL,
+    PRIMARY KEY (receiver, pno)
+) ENGINE = InnoDB;
+
+-- 티켓 삭제 시 tno 로 지움
+CREATE INDEX IF NOT EXISTS idx_inbox_entry_tno ON inbox_entry (tno);
+
+-- ticket_personal.state 가 NULL 인 예전 행은 NEW 로 맞추고 NOT NULL 로
+-- (inbox_entry 와 비교하는 e.state <> tp.state, 상태변경의 state IN (...) 이 NULL 이면 맞지 않음)
+-- 받은함 개수는 V3 에서 NULL 행을 어느 상태에도 안 셌으므로 그만큼 NEW 에 더함
+UPDATE ticket_inbox_counter c
+JOIN (SELECT receiver, COUNT(*) AS cnt
+      FROM ticket_personal
+      WHERE state IS NULL AND receiver IS NOT NULL
+      GROUP BY receiver) n ON n.receiver = c.receiver
+SET c.state_new = c.state_new + n.cnt;
+
+UPDATE ticket_personal SET state = 'NEW' WHERE state IS NULL;
+ALTER TABLE ticket_personal MODIFY state ENUM('DONE','IN_PROGRESS','NEED_INFO','NEW') NOT NULL DEFAULT 'NEW';
+
+-- 기존 받은 티켓으로 채우기
+INSERT IGNORE INTO inbox_entry (receiver, pno, tno, title, grade, birth, deadline, writer, state, isread)
+SELECT tp.receiver, tp.pno, t.tno, t.title, t.grade, t.birth, t.deadline, t.writer, tp.state, tp.isread
+FROM ticket_personal tp
+JOIN ticket t ON t.tno = tp.tp_tno
+WHERE tp.receiver IS NOT NULL;
+
+-- 받은함 목록의 상태/읽음 필터는 inbox_entry 에서 처리하므로 ticket_personal 쪽 필터 인덱스는 제거 (쓰기 비용)
+DROP INDEX IF EXISTS idx_tp_receiver_state_pno ON ticket_personal;
+DROP INDEX IF EXISTS idx_tp_receiver_isread_pno ON ticket_personal;
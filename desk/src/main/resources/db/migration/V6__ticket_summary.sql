@@ -0,0 +1,32 @@
+-- 보낸함 진행 현황 (티켓별 수신자 수/읽은 수/상태별 수)
+-- 보낸함 목록이 수신자 행을 전부 싣지 않도록 티켓 생성/삭제, 읽음처리, 상태변경 때 같은 트랜잭션에서 같이 갱신
+CREATE TABLE IF NOT EXISTS ticket_summary (
+    tno               BIGINT NOT NULL,
+    receivers         BIGINT NOT NULL DEFAULT 0,
+    read_count        BIGINT NOT NULL DEFAULT 0,
+    state_new         BIGINT NOT NULL DEFAULT 0,
+    state_in_progress BIGINT NOT NULL DEFAULT 0,
+    state_need_info   BIGINT NOT NULL DEFAULT 0,
+    state_done        BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (tno)
+) ENGINE = InnoDB;
+
+-- 기존 티켓으로 채우기 (수신자가 없는 티켓도 0 으로 한 줄)
+INSERT INTO ticket_summary
+    (tno, receivers, read_count, state_new, state_in_progress, state_need_info, state_done)
+SELECT t.tno,
+       COUNT(tp.pno),
+       COALESCE(SUM(tp.isread = 1), 0),
+       COALESCE(SUM(tp.state = 'NEW'), 0),
+       COALESCE(SUM(tp.state = 'IN_PROGRESS'), 0),
+       COALESCE(SUM(tp.state = 'NEED_INFO'), 0),
+       COALESCE(SUM(tp.state = 'DONE'), 0)
+FROM ticket t
+LEFT JOIN ticket_personal tp ON tp.tp_tno = t.tno
+GROUP BY t.tno
+ON DUPLICATE KEY UPDATE receivers         = VALUES(receivers),
+                        read_count        = VALUES(read_count),
+                        state_new         = VALUES(state_new),
+                        state_in_progress = VALUES(state_in_progress),
+                        state_need_info   = VALUES(state_need_info),
+                        state_done        = VALUES(state_done);
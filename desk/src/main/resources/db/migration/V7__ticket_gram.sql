@@ -0,0 +1,27 @@
+-- 티켓 제목/본문 키워드 검색용 2글자(bigram) 역색인 (repository/TicketSearchIndex)
+-- 서버 메모리에 두면 다른 서버에서 만든 티켓이 후보에서 빠지므로 DB 에 두고 티켓 생성/삭제와 같은 트랜잭션에서 갱신
+-- (MariaDB FULLTEXT 는 ngram 파서가 없어서 한글 부분 검색에는 못 씀)
+-- gram 은 ticket.title/content 와 같은 collation (DB 기본값) 이어야 LIKE 가 찾는 것(대소문자, 악센트 차이)을 후보에서 빠뜨리지 않음
+-- 그래서 소문자 변환 없이 원문 그대로 넣고 비교는 collation 에 맡김, 삭제는 tno 인덱스로
+CREATE TABLE IF NOT EXISTS ticket_gram (
+    gram VARCHAR(2) NOT NULL,
+    tno  BIGINT NOT NULL,
+    PRIMARY KEY (gram, tno),
+    KEY idx_ticket_gram_tno (tno)
+) ENGINE = InnoDB;
+
+-- 기존 티켓 채우기: 공백 제거 후 2글자씩, 제목/본문 따로 (TicketSearchIndex.tokenize 와 같은 규칙)
+-- 제목/본문은 VARCHAR(255) 라 위치는 254 까지, collation 상 같은 gram(Ca/ca, fé/fe)은 하나만 남음
+INSERT IGNORE INTO ticket_gram (gram, tno)
+WITH RECURSIVE pos (i) AS (
+    SELECT 1
+    UNION ALL
+    SELECT i + 1 FROM pos WHERE i < 254
+), doc (tno, body) AS (
+    SELECT tno, REGEXP_REPLACE(title, '[[:space:]]+', '') FROM ticket
+    UNION ALL
+    SELECT tno, REGEXP_REPLACE(content, '[[:space:]]+', '') FROM ticket
+)
+SELECT DISTINCT SUBSTRING(d.body, p.i, 2), d.tno
+FROM doc d
+JOIN pos p ON p.i < CHAR_LENGTH(d.body);
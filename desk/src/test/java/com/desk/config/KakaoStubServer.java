@@ -0,0 +1,119 @@
+package com.desk.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 로컬 부하 테스트용 카카오 /v2/user/me 스텁 서버 (kakao-stub 프로필에서만 실행)
+ * 실제 카카오 없이 /api/member/kakao 를 부를 수 있게, access token "xxx" 를 xxx@kakao.stub 계정으로 응답
+ *  - "invalid" 로 시작하는 토큰은 401, latency 로 카카오 응답 지연 흉내
+ * 스프링 보안 필터를 타지 않도록 별도 포트의 JDK HttpServer 로 띄움
+ * 테스트 소스에만 있음 (운영 jar 에는 안 들어감), 실행은 ./gradlew bootTestRun --args='--spring.profiles.active=kakao-stub'
+ */
+@Component
+@Profile("kakao-stub")
+@Log4j2
+public class KakaoStubServer {
+
+    @Value("${kakao.stub.port:18089}")
+    private int port;
+
+    @Value("${kakao.stub.latency:0ms}")
+    private Duration latency;
+
+    private final AtomicLong requests = new AtomicLong();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public KakaoStubServer() {
+    }
+
+    public KakaoStubServer(int port, Duration latency) {
+        this.port = port;
+        this.latency = latency;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        executor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        server.createContext("/v2/user/me", this::handle);
+        server.setExecutor(executor);
+        server.start();
+        log.info("[KakaoStub] 시작 | port={} | latency={}", getPort(), latency);
+    }
+
+    @PreDestroy
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try {
+            if (!latency.isZero()) {
+                Thread.sleep(latency.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        String token = authorization != null && authorization.startsWith("Bearer ") ? authorization.substring(7) : "";
+
+        int status = 200;
+        String body;
+        if (token.isEmpty() || token.startsWith("invalid")) {
+            status = 401;
+            body = "{\"msg\":\"this access token does not exist\",\"code\":-401}";
+        } else {
+            body = "{\"id\":" + Math.abs((long) token.hashCode()) + ",\"kakao_account\":{\"email\":\"" + escape(token) + "@kakao.stub\"}}";
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    // 토큰을 그대로 JSON 문자열에 넣으므로 따옴표/역슬래시/제어문자는 이스케이프
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                escaped.append('\\').append(c);
+            } else if (c < 0x20) {
+                escaped.append(String.format("\\u%04x", (int) c));
+            } else {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
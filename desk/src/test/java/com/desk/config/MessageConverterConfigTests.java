@@ -0,0 +1,71 @@
+package com.desk.config;
+
+import com.desk.domain.TicketGrade;
+import com.desk.domain.TicketState;
+import com.desk.dto.PageEnvelopeDTO;
+import com.desk.dto.TicketReceivedRowDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class MessageConverterConfigTests {
+
+    @Autowired
+    private HttpMessageConverters httpMessageConverters;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborHttpMessageConverter;
+
+    @Test
+    @DisplayName("Accept: application/cbor 면 CBOR, 기본은 계속 JSON (JSON 과 같은 필드)")
+    void cborNegotiation() throws Exception {
+        List<HttpMessageConverter<?>> converters = httpMessageConverters.getConverters();
+        int json = indexOf(converters, MappingJackson2HttpMessageConverter.class);
+        int cbor = converters.indexOf(cborHttpMessageConverter);
+        assertTrue(json >= 0 && cbor > json, "JSON 변환기가 CBOR 보다 앞이어야 합니다.");
+        assertTrue(cborHttpMessageConverter.canWrite(PageEnvelopeDTO.class, MediaType.APPLICATION_CBOR));
+
+        TicketReceivedRowDTO row = TicketReceivedRowDTO.builder()
+                .pno(1L).receiver("receiver@desk.com").state(TicketState.NEW)
+                .tno(2L).title("CBOR").grade(TicketGrade.LOW)
+                .birth(LocalDateTime.of(2025, 1, 6, 9, 30))
+                .writer("writer@desk.com")
+                .build();
+        PageEnvelopeDTO<TicketReceivedRowDTO> page = PageEnvelopeDTO.of(new PageImpl<>(List.of(row), PageRequest.of(0, 10), 1));
+
+        ObjectMapper cborMapper = cborHttpMessageConverter.getObjectMapper();
+        ObjectMapper jsonMapper = ((MappingJackson2HttpMessageConverter) converters.get(json)).getObjectMapper();
+        byte[] cborBytes = cborMapper.writeValueAsBytes(page);
+        byte[] jsonBytes = jsonMapper.writeValueAsBytes(page);
+
+        JsonNode decoded = cborMapper.readTree(cborBytes);
+        assertEquals(jsonMapper.readTree(jsonBytes), decoded);
+        assertEquals("2025-01-06 09:30", decoded.get("content").get(0).get("birth").asText());
+        assertTrue(cborBytes.length < jsonBytes.length);
+    }
+
+    private static int indexOf(List<HttpMessageConverter<?>> converters, Class<?> type) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i).getClass() == type) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
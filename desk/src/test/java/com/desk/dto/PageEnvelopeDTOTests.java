@@ -0,0 +1,55 @@
+package com.desk.dto;
+
+import com.desk.domain.TicketGrade;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageEnvelopeDTOTests {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    @DisplayName("페이지 응답은 content + page(size/number/totalElements/totalPages) 만")
+    void writesCompactEnvelope() throws Exception {
+        TicketSentRowDTO row = TicketSentRowDTO.builder()
+                .tno(7L)
+                .title("회의실 예약")
+                .grade(TicketGrade.HIGH)
+                .birth(LocalDateTime.of(2025, 1, 6, 9, 30))
+                .writer("writer@desk.com")
+                .build();
+        PageImpl<TicketSentRowDTO> page = new PageImpl<>(List.of(row), PageRequest.of(2, 10, Sort.by("tno")), 21);
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(PageEnvelopeDTO.of(page)));
+
+        assertEquals(List.of("content", "page"), fieldNames(json));
+        assertEquals(List.of("size", "number", "totalElements", "totalPages"), fieldNames(json.get("page")));
+        assertEquals(2, json.get("page").get("number").asInt());
+        assertEquals(21, json.get("page").get("totalElements").asLong());
+        assertEquals(3, json.get("page").get("totalPages").asInt());
+
+        // 행은 기존 DTO 직렬화 그대로 (@JsonFormat 포함)
+        JsonNode first = json.get("content").get(0);
+        assertEquals(7, first.get("tno").asLong());
+        assertEquals("2025-01-06 09:30", first.get("birth").asText());
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsString(row)), first);
+    }
+
+    private static List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+}
@@ -0,0 +1,35 @@
+package com.desk.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TicketCountCacheTests {
+
+    @Test
+    @DisplayName("stamp 이후 무효화되면 그 사이에 센 개수는 저장하지 않음")
+    void skipsCountStampedBeforeEviction() {
+        TicketCountCache cache = new TicketCountCache();
+        AtomicInteger queries = new AtomicInteger();
+
+        // 목록 조회 시작 → (다른 요청이 커밋 후 무효화) → 옛 스냅샷으로 count
+        TicketCountCache.Stamp stamp = cache.stamp(TicketCountCache.Box.INBOX, "수신자");
+        cache.evict(TicketCountCache.Box.INBOX, "수신자");
+        assertEquals(3, cache.get(stamp, null, () -> { queries.incrementAndGet(); return 3L; }));
+
+        // 저장 안 됐으니 다음 조회는 다시 셈, 그 결과는 저장됨
+        TicketCountCache.Stamp next = cache.stamp(TicketCountCache.Box.INBOX, "수신자");
+        assertEquals(4, cache.get(next, null, () -> { queries.incrementAndGet(); return 4L; }));
+        assertEquals(4, cache.get(cache.stamp(TicketCountCache.Box.INBOX, "수신자"), null, () -> 99L));
+        assertEquals(2, queries.get());
+
+        // 함 전체 무효화도 마찬가지
+        TicketCountCache.Stamp beforeAll = cache.stamp(TicketCountCache.Box.INBOX, "다른수신자");
+        cache.evictAll(TicketCountCache.Box.INBOX);
+        cache.get(beforeAll, null, () -> 1L);
+        assertEquals(2, cache.get(cache.stamp(TicketCountCache.Box.INBOX, "다른수신자"), null, () -> 2L));
+    }
+}
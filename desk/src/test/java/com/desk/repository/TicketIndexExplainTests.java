@@ -0,0 +1,228 @@
+package com.desk.repository;
+
+import com.desk.domain.TicketGrade;
+import com.desk.domain.TicketState;
+import com.desk.dto.TicketCreateDTO;
+import com.desk.dto.TicketFilterDTO;
+import com.desk.service.PersonalTicketService;
+import com.desk.service.TicketService;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * 받은함/보낸함 목록 쿼리가 db/migration 의 인덱스를 타는지 EXPLAIN 으로 확인합니다.
+ * 하이버네이트가 실제로 만든 SQL 을 StatementInspector 로 잡아서 그대로 EXPLAIN 함
+ * (한 테이블이라도 type=ALL 또는 key 가 없으면 전체 스캔이므로 실패)
+ *
+ * 행이 몇 개 없으면 옵티마이저가 인덱스 대신 그냥 스캔을 골라버려서
+ * 클래스 시작 시 다른 작성자/수신자 티켓을 깔아두고 통계를 갱신함 (끝나면 삭제)
+ */
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.desk.repository.TicketIndexExplainTests$CapturingInspector")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Log4j2
+class TicketIndexExplainTests {
+
+    private static final String VOLUME_WRITER = "인덱스배경작성자";
+    private static final String VOLUME_RECEIVER = "인덱스배경수신자_";
+    private static final int VOLUME_TICKETS = 1000;
+    private static final int VOLUME_RECEIVERS = 5;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private PersonalTicketService personalTicketService;
+
+    @Autowired
+    private TicketPersonalRepository ticketPersonalRepository;
+
+    @Autowired
+    private TicketSearchIndex searchIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String writer;
+    private String receiver;
+    private Long tno;
+
+    // 하이버네이트가 보내는 SQL 을 모아둠
+    public static class CapturingInspector implements StatementInspector {
+        static final List<String> SQLS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            SQLS.add(sql);
+            return sql;
+        }
+    }
+
+    @BeforeAll
+    void seedVolume() {
+        clearVolume();
+
+        List<Object[]> tickets = new ArrayList<>();
+        for (int i = 1; i <= VOLUME_TICKETS; i++) {
+            tickets.add(new Object[]{"배경 티켓 " + i, TicketGrade.LOW.name(), VOLUME_WRITER});
+        }
+        // id 는 하이버네이트와 같은 시퀀스에서 (auto_increment 로 넣으면 나중에 시퀀스 값과 겹칠 수 있음)
+        jdbcTemplate.batchUpdate("insert into ticket (tno, title, grade, writer, birth) "
+                + "values (next value for ticket_seq, ?, ?, ?, now())", tickets);
+
+        for (int r = 1; r <= VOLUME_RECEIVERS; r++) {
+            jdbcTemplate.update("insert into ticket_personal (pno, isread, receiver, state, tp_tno) "
+                    + "select next value for ticket_personal_seq, false, ?, 'NEW', tno from ticket where writer = ?",
+                    VOLUME_RECEIVER + r, VOLUME_WRITER);
+        }
+        // 받은함 목록 테이블도 같이 (서비스에서는 티켓 생성 때 채움)
+        jdbcTemplate.update("insert into inbox_entry (receiver, pno, tno, title, grade, birth, deadline, writer, state, isread) "
+                + "select tp.receiver, tp.pno, t.tno, t.title, t.grade, t.birth, t.deadline, t.writer, tp.state, tp.isread "
+                + "from ticket_personal tp join ticket t on t.tno = tp.tp_tno where t.writer = ?", VOLUME_WRITER);
+        jdbcTemplate.execute("analyze table ticket, ticket_personal, inbox_entry");
+    }
+
+    @AfterAll
+    void clearVolume() {
+        jdbcTemplate.update("delete from inbox_entry where writer = ?", VOLUME_WRITER);
+        jdbcTemplate.update("delete from ticket_personal where tp_tno in (select tno from ticket where writer = ?)", VOLUME_WRITER);
+        jdbcTemplate.update("delete from ticket where writer = ?", VOLUME_WRITER);
+    }
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        writer = "인덱스작성자_" + suffix;
+        receiver = "인덱스수신자_" + suffix;
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("받은함 목록 - receiver + pno 정렬 (inbox_entry PK, ticket join 없음)")
+    void explainInbox() {
+        createTickets();
+
+        String sql = capture(() -> personalTicketService.listRecieveTicket(receiver, null, PageRequest.of(0, 10)),
+                "inbox_entry");
+
+        assertFalse(sql.contains(" join "), "받은함 목록은 ticket 과 join 하지 않아야 합니다: " + sql);
+        assertIndexed(sql, receiver, 0, 10);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("받은함 목록 - receiver + state 필터")
+    void explainInboxByState() {
+        createTickets();
+        TicketFilterDTO filter = TicketFilterDTO.builder().state(TicketState.NEW).build();
+
+        String sql = capture(() -> personalTicketService.listRecieveTicket(receiver, filter, PageRequest.of(0, 10)),
+                "inbox_entry");
+
+        assertIndexed(sql, receiver, TicketState.NEW.name(), 0, 10);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("받은함 목록 - receiver + isread 필터")
+    void explainInboxByRead() {
+        createTickets();
+        TicketFilterDTO filter = TicketFilterDTO.builder().read(false).build();
+
+        String sql = capture(() -> personalTicketService.listRecieveTicket(receiver, filter, PageRequest.of(0, 10)),
+                "inbox_entry");
+
+        assertIndexed(sql, receiver, false, 0, 10);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("보낸함 목록 - writer + tno 정렬")
+    void explainSent() {
+        createTickets();
+
+        String sql = capture(() -> ticketService.listSent(writer, null, PageRequest.of(0, 10)),
+                "from ticket ");
+
+        assertIndexed(sql, writer, 0, 10);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("receiver + tno 로 받은 티켓 상세 (알림 딥링크, ticket join fetch)")
+    void explainInboxByReceiverAndTno() {
+        createTickets();
+
+        String sql = capture(() -> ticketPersonalRepository.findInboxByReceiverAndTno(receiver, tno),
+                "ticket_personal");
+        assertTrue(sql.contains("join ticket"), "티켓 내용도 같은 쿼리에서 가져와야 합니다: " + sql);
+
+        assertIndexed(sql, receiver, tno);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("키워드 후보 tno - ticket_gram PK(gram, tno)")
+    void explainKeywordCandidates() {
+        createTickets();
+
+        CapturingInspector.SQLS.clear();
+        assertTrue(searchIndex.candidates("인덱스 테스트").orElseThrow().contains(tno));
+        String sql = CapturingInspector.SQLS.stream()
+                .filter(s -> s.contains("from ticket_gram"))
+                .findFirst()
+                .orElseThrow();
+
+        List<Object> params = new ArrayList<>(TicketSearchIndex.tokenize("인덱스 테스트"));
+        params.addAll(TicketSearchIndex.tokenize("인덱스 테스트"));
+        params.add(1001);
+        assertIndexed(sql, params.toArray());
+    }
+
+    private void createTickets() {
+        for (int i = 1; i <= 3; i++) {
+            tno = ticketService.create(TicketCreateDTO.builder()
+                    .title("인덱스 테스트 " + i)
+                    .grade(TicketGrade.LOW)
+                    .receivers(List.of(receiver, "다른수신자"))
+                    .build(), writer).getTno();
+        }
+    }
+
+    // action 실행 중에 나간 select 중 첫 번째 목록 쿼리
+    private String capture(Runnable action, String table) {
+        CapturingInspector.SQLS.clear();
+        action.run();
+        return CapturingInspector.SQLS.stream()
+                .filter(sql -> sql.startsWith("select") && sql.contains(table) && !sql.contains("count("))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("캡처된 쿼리가 없습니다: " + CapturingInspector.SQLS));
+    }
+
+    private void assertIndexed(String sql, Object... params) {
+        assertEquals(params.length, sql.chars().filter(c -> c == '?').count(),
+                "바인딩 파라미터 개수가 맞아야 합니다: " + sql);
+
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, params);
+        log.info("[EXPLAIN] {}\n{}", sql, plan);
+
+        assertFalse(plan.isEmpty());
+        plan.forEach(row -> {
+            assertNotEquals("ALL", row.get("type"), "전체 스캔이면 안 됩니다: " + row);
+            assertNotNull(row.get("key"), "인덱스를 타야 합니다: " + row);
+        });
+    }
+}
@@ -0,0 +1,107 @@
+package com.desk.security;
+
+import com.desk.dto.PasswordHashStatsDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTests {
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        if (encoder != null) {
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("전용 스레드에서 BCrypt 결과는 그대로")
+    void encodeAndMatch() {
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 4, Duration.ofSeconds(5));
+
+        String encoded = encoder.encode("password123");
+
+        assertTrue(encoder.matches("password123", encoded));
+        assertFalse(encoder.matches("wrong", encoded));
+    }
+
+    @Test
+    @DisplayName("해시 스레드와 대기열이 꽉 차면 기다리지 않고 LOGIN_BUSY")
+    void rejectWhenSaturated() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+        encoder = new BoundedPasswordEncoder(blocking, 1, 1, Duration.ofSeconds(5));
+
+        ExecutorService requests = Executors.newFixedThreadPool(2);
+        try {
+            requests.submit(() -> encoder.matches("a", "b")); // 실행 중
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            requests.submit(() -> encoder.matches("a", "b")); // 대기열
+
+            waitForQueued(1);
+            AuthenticationServiceException ex = assertThrows(AuthenticationServiceException.class,
+                    () -> encoder.matches("a", "b"));
+            assertEquals(BoundedPasswordEncoder.BUSY, ex.getMessage());
+
+            PasswordHashStatsDTO stats = encoder.getStats();
+            assertEquals(1, stats.getActive());
+            assertEquals(1, stats.getQueued());
+            assertEquals(1, stats.getRejected());
+        } finally {
+            release.countDown();
+            requests.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("timeout 안에 못 끝나면 LOGIN_BUSY")
+    void timeout() {
+        PasswordEncoder slow = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    Thread.sleep(2_000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        encoder = new BoundedPasswordEncoder(slow, 1, 1, Duration.ofMillis(100));
+
+        assertThrows(AuthenticationServiceException.class, () -> encoder.encode("password123"));
+        assertEquals(1, encoder.getStats().getTimedOut());
+    }
+
+    private void waitForQueued(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (encoder.getStats().getQueued() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
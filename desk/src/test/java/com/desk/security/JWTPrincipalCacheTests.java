@@ -0,0 +1,100 @@
+package com.desk.security;
+
+import com.desk.dto.MemberDTO;
+import com.desk.util.CustomJWTException;
+import com.desk.util.JWTUtil;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Log4j2
+class JWTPrincipalCacheTests {
+
+    private final TokenRevocationList revocationList = new TokenRevocationList(null);
+    private final JWTPrincipalCache cache = new JWTPrincipalCache(revocationList);
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 검증하고 같은 인증 정보를 돌려줌")
+    void sameTokenHitsCache() {
+        String token = JWTUtil.generateToken(claims("cache@test.com"), 10);
+
+        MemberDTO first = cache.get(token);
+        MemberDTO second = cache.get(token);
+
+        assertSame(first, second);
+        assertEquals("cache@test.com", first.getEmail());
+        assertEquals(List.of("USER", "ADMIN"), first.getRoleNames());
+        assertTrue(first.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN")));
+        assertThrows(UnsupportedOperationException.class, () -> first.getRoleNames().add("MANAGER"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("서명이 틀리거나 만료된 토큰은 실패하고 캐시에 남지 않음")
+    void invalidTokenNotCached() {
+        String token = JWTUtil.generateToken(claims("cache@test.com"), 10);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        String expired = JWTUtil.generateToken(claims("cache@test.com"), -1);
+
+        assertThrows(CustomJWTException.class, () -> cache.get(tampered));
+        CustomJWTException ex = assertThrows(CustomJWTException.class, () -> cache.get(expired));
+        assertEquals("Expired", ex.getMessage());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("캐시에 있는 토큰도 차단된 회원이면 실패")
+    void revokedTokenRejectedEvenIfCached() {
+        String token = JWTUtil.generateToken(claims("revoked@test.com"), 10);
+        cache.get(token);
+
+        revocationList.revoke("revoked@test.com");
+
+        CustomJWTException ex = assertThrows(CustomJWTException.class, () -> cache.get(token));
+        assertEquals("Revoked", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("검증 시간 비교 - 매번 검증 vs 캐시")
+    void compareWithValidate() {
+        String token = JWTUtil.generateToken(claims("bench@test.com"), 10);
+        int iterations = 20_000;
+
+        for (int i = 0; i < 2_000; i++) {
+            JWTUtil.validateToken(token);
+            cache.get(token);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            JWTUtil.validateToken(token);
+        }
+        long validateNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            cache.get(token);
+        }
+        long cachedNanos = System.nanoTime() - start;
+
+        log.info("[JWT_BENCH] 검증={}us/건 | 캐시={}us/건",
+                String.format("%.2f", validateNanos / 1000.0 / iterations),
+                String.format("%.2f", cachedNanos / 1000.0 / iterations));
+        assertTrue(cachedNanos < validateNanos);
+    }
+
+    private Map<String, Object> claims(String email) {
+        return Map.of(
+                "email", email,
+                "nickname", "캐시테스트",
+                "social", false,
+                "department", "DEVELOPMENT",
+                "approved", true,
+                "roleNames", List.of("USER", "ADMIN"));
+    }
+}
@@ -0,0 +1,131 @@
+package com.desk.security;
+
+import com.desk.config.KakaoStubServer;
+import com.desk.util.CircuitBreaker;
+import com.desk.util.KakaoUnavailableException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KakaoClientTests {
+
+    private KakaoClient client(KakaoStubServer stub, Duration readTimeout, CircuitBreaker circuitBreaker) {
+        return new KakaoClient(new RestTemplateBuilder()
+                .rootUri("http://127.0.0.1:" + stub.getPort())
+                .setConnectTimeout(Duration.ofSeconds(1))
+                .setReadTimeout(readTimeout)
+                .build(), circuitBreaker, Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("같은 access token 은 캐시에서, 잘못된 토큰은 401 그대로 (서킷에는 안 셈)")
+    void cachesEmailByToken() throws Exception {
+        KakaoStubServer stub = new KakaoStubServer(0, Duration.ZERO);
+        stub.start();
+        try {
+            CircuitBreaker circuitBreaker = new CircuitBreaker(1, Duration.ofMinutes(1));
+            KakaoClient client = client(stub, Duration.ofSeconds(2), circuitBreaker);
+
+            assertEquals("user1@kakao.stub", client.getEmail("user1"));
+            assertEquals("user1@kakao.stub", client.getEmail("user1"));
+            assertEquals(1, stub.getRequests());
+
+            assertThrows(HttpClientErrorException.Unauthorized.class, () -> client.getEmail("invalid-token"));
+            assertEquals(CircuitBreaker.State.CLOSED, client.getCircuitState());
+        } finally {
+            stub.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("카카오 응답이 timeout 을 넘기면 KAKAO_UNAVAILABLE, 연속 실패 후에는 호출 없이 바로 실패")
+    void circuitOpensOnTimeouts() throws Exception {
+        KakaoStubServer stub = new KakaoStubServer(0, Duration.ofMillis(500));
+        stub.start();
+        try {
+            KakaoClient client = client(stub, Duration.ofMillis(100), new CircuitBreaker(2, Duration.ofMinutes(1)));
+
+            assertThrows(KakaoUnavailableException.class, () -> client.getEmail("slow1"));
+            assertThrows(KakaoUnavailableException.class, () -> client.getEmail("slow2"));
+            assertEquals(CircuitBreaker.State.OPEN, client.getCircuitState());
+
+            long start = System.nanoTime();
+            assertThrows(KakaoUnavailableException.class, () -> client.getEmail("slow3"));
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 100, "서킷 OPEN 이면 기다리지 않아야 합니다.");
+            assertEquals(2, stub.getRequests());
+        } finally {
+            stub.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("서킷 OPEN 시간이 지나면 한 요청만 시험 호출, 성공하면 CLOSED")
+    void circuitHalfOpen() {
+        AtomicLong now = new AtomicLong(1_000);
+        CircuitBreaker circuitBreaker = new CircuitBreaker(2, Duration.ofSeconds(30), now::get);
+
+        circuitBreaker.onFailure();
+        assertTrue(circuitBreaker.tryAcquire());
+        circuitBreaker.onFailure();
+        assertFalse(circuitBreaker.tryAcquire());
+
+        now.addAndGet(30_000);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquire());
+        assertFalse(circuitBreaker.tryAcquire(), "시험 호출 중에는 다른 요청은 막아야 합니다.");
+
+        // 시험 호출 실패 → 다시 OPEN
+        circuitBreaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        now.addAndGet(30_000);
+        assertTrue(circuitBreaker.tryAcquire());
+        circuitBreaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("시험 호출이 RestClientException 이 아닌 예외로 끝나도 서킷이 HALF_OPEN 에 묶이지 않음")
+    void probeReleasedOnUnexpectedException() throws Exception {
+        KakaoStubServer stub = new KakaoStubServer(0, Duration.ZERO);
+        stub.start();
+        try {
+            AtomicLong now = new AtomicLong(1_000);
+            AtomicBoolean broken = new AtomicBoolean(true);
+            CircuitBreaker circuitBreaker = new CircuitBreaker(1, Duration.ofSeconds(30), now::get);
+            KakaoClient client = new KakaoClient(new RestTemplateBuilder()
+                    .rootUri("http://127.0.0.1:" + stub.getPort())
+                    .additionalInterceptors((request, body, execution) -> {
+                        if (broken.get()) {
+                            throw new IllegalStateException("broken interceptor");
+                        }
+                        return execution.execute(request, body);
+                    })
+                    .build(), circuitBreaker, Duration.ofMinutes(5));
+
+            circuitBreaker.onFailure();
+            now.addAndGet(30_000);
+            assertEquals(CircuitBreaker.State.HALF_OPEN, client.getCircuitState());
+
+            // 시험 호출 실패 → 다시 OPEN
+            assertThrows(IllegalStateException.class, () -> client.getEmail("probe1"));
+            assertEquals(CircuitBreaker.State.OPEN, client.getCircuitState());
+
+            // 다음 시험 호출은 들어가고 성공하면 CLOSED
+            broken.set(false);
+            now.addAndGet(30_000);
+            assertEquals("probe2@kakao.stub", client.getEmail("probe2"));
+            assertEquals(CircuitBreaker.State.CLOSED, client.getCircuitState());
+        } finally {
+            stub.stop();
+        }
+    }
+}
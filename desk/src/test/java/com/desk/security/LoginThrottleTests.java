@@ -0,0 +1,77 @@
+package com.desk.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginThrottleTests {
+
+    private final AtomicLong now = new AtomicLong(Duration.ofDays(1).toMillis());
+
+    private LoginThrottle throttle() {
+        return new LoginThrottle(5, 20, Duration.ofMinutes(15), Duration.ofSeconds(30), Duration.ofMinutes(15), now::get);
+    }
+
+    @Test
+    @DisplayName("계정 실패 5번이면 차단, 차단이 풀린 뒤 또 실패하면 차단 시간 2배")
+    void accountBackoff() {
+        LoginThrottle throttle = throttle();
+
+        IntStream.range(0, 4).forEach(i -> throttle.recordFailure("user1@desk.com", "10.0.0.1"));
+        assertEquals(0, throttle.retryAfterMillis("user1@desk.com", "10.0.0.1"));
+
+        throttle.recordFailure("USER1@desk.com", "10.0.0.2");
+        assertEquals(30_000, throttle.retryAfterMillis("user1@desk.com", "10.0.0.3"));
+        // 다른 계정은 그대로
+        assertEquals(0, throttle.retryAfterMillis("user2@desk.com", "10.0.0.3"));
+
+        now.addAndGet(30_000);
+        assertEquals(0, throttle.retryAfterMillis("user1@desk.com", "10.0.0.1"));
+        throttle.recordFailure("user1@desk.com", "10.0.0.1");
+        assertEquals(60_000, throttle.retryAfterMillis("user1@desk.com", "10.0.0.1"));
+
+        now.addAndGet(60_000);
+        throttle.recordFailure("user1@desk.com", "10.0.0.1");
+        assertEquals(120_000, throttle.retryAfterMillis("user1@desk.com", "10.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("로그인 성공 시 계정 카운터 초기화, 오래된 실패는 window 가 지나면 빠짐")
+    void resetAndSlidingWindow() {
+        LoginThrottle throttle = throttle();
+
+        IntStream.range(0, 4).forEach(i -> throttle.recordFailure("user1@desk.com", null));
+        throttle.recordSuccess("user1@desk.com");
+        IntStream.range(0, 4).forEach(i -> throttle.recordFailure("user1@desk.com", null));
+        assertEquals(0, throttle.retryAfterMillis("user1@desk.com", null));
+
+        // 두 window 가 지나면 이전 실패는 안 셈
+        now.addAndGet(Duration.ofMinutes(30).toMillis());
+        IntStream.range(0, 4).forEach(i -> throttle.recordFailure("user1@desk.com", null));
+        assertEquals(0, throttle.retryAfterMillis("user1@desk.com", null));
+    }
+
+    @Test
+    @DisplayName("IP 하나에서 여러 계정으로 시도해도 IP 기준으로 차단 (동시 실패도 빠짐없이 셈)")
+    void ipThrottleConcurrent() throws InterruptedException {
+        LoginThrottle throttle = throttle();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        IntStream.range(0, 19).forEach(i -> executor.submit(() -> throttle.recordFailure("victim" + i + "@desk.com", "10.0.0.9")));
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(0, throttle.retryAfterMillis("new@desk.com", "10.0.0.9"));
+        throttle.recordFailure("victim99@desk.com", "10.0.0.9");
+        assertTrue(throttle.retryAfterMillis("new@desk.com", "10.0.0.9") > 0);
+        assertEquals(0, throttle.retryAfterMillis("new@desk.com", "10.0.0.10"));
+    }
+}
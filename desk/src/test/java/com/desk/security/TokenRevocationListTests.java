@@ -0,0 +1,44 @@
+package com.desk.security;
+
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Log4j2
+class TokenRevocationListTests {
+
+    @Test
+    @DisplayName("차단 목록 - 블룸 필터가 커져도 차단된 회원은 빠지지 않고, 나머지는 거의 통과")
+    void bloomFilterGrows() {
+        TokenRevocationList revocationList = new TokenRevocationList(null);
+        int revoked = 5_000;
+        IntStream.range(0, revoked).forEach(i -> revocationList.revoke("revoked" + i + "@desk.com"));
+
+        IntStream.range(0, revoked).forEach(i ->
+                assertTrue(revocationList.isRevoked("revoked" + i + "@desk.com", 0)));
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> revocationList.isRevoked("active" + i + "@desk.com", 0))
+                .count();
+        log.info("[REVOCATION] 차단={} | 오탐(Map 에서 걸러짐)={}", revoked, falsePositives);
+        // 블룸 필터가 "있을 수도" 라고 해도 Map 에 없으면 통과
+        assertEquals(0, falsePositives);
+    }
+
+    @Test
+    @DisplayName("블룸 필터 오탐률은 1% 근처")
+    void bloomFilterFalsePositiveRate() {
+        TokenRevocationList.BloomFilter bloom = new TokenRevocationList.BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> bloom.add("member" + i + "@desk.com"));
+
+        long hits = IntStream.range(0, 100_000)
+                .filter(i -> bloom.mightContain("other" + i + "@desk.com"))
+                .count();
+        log.info("[REVOCATION] 오탐률={}", hits / 100_000.0);
+        assertTrue(hits < 2_000, "오탐률이 너무 높습니다: " + hits);
+    }
+}
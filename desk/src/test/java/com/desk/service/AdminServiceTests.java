@@ -4,16 +4,23 @@ import com.desk.dto.MemberDTO;
 import com.desk.dto.PageRequestDTO;
 import com.desk.dto.PageResponseDTO;
 import com.desk.domain.Member;
+import com.desk.domain.MemberRole;
 import com.desk.repository.MemberRepository;
+import com.desk.security.CustomUserDetailsService;
+import com.desk.security.MemberPrincipalCache;
+import com.desk.security.TokenRevocationList;
 import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @Log4j2
@@ -25,6 +32,15 @@ public class AdminServiceTests {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private MemberPrincipalCache memberPrincipalCache;
+
     @Test
     @Transactional
     public void testGetPendingMembers() {
@@ -84,4 +100,68 @@ public class AdminServiceTests {
         assertThat(member.isDeleted()).isTrue();
         log.info("회원 삭제(Soft Delete) 완료 확인: " + member.getEmail());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testApproveAndDeleteRevokeTokens() {
+        // Given (승인 대기 회원, 트랜잭션 없이 실행해서 커밋 후 차단 목록 반영까지 확인)
+        String email = "revoke_" + System.nanoTime() + "@desk.com";
+        memberRepository.save(Member.builder()
+                .email(email)
+                .pw("pw")
+                .nickname("차단테스트")
+                .isApproved(false)
+                .build());
+        long issuedBeforeApproval = Instant.now().getEpochSecond() - 10;
+
+        try {
+            // When
+            adminService.approveMember(email);
+
+            // Then (승인 전 토큰만 차단)
+            assertThat(tokenRevocationList.isRevoked(email, issuedBeforeApproval)).isTrue();
+            assertThat(tokenRevocationList.isRevoked(email, Instant.now().getEpochSecond() + 1)).isFalse();
+
+            // 삭제하면 이후 발급된 토큰까지 전부 차단
+            adminService.deleteMember(email);
+            assertThat(tokenRevocationList.isRevoked(email, Instant.now().getEpochSecond() + 1)).isTrue();
+        } finally {
+            memberRepository.deleteById(email);
+        }
+    }
+
+    @Test
+    public void testApproveAndDeleteInvalidateLoginCache() {
+        // Given (승인 대기 회원, 로그인 시도로 캐시에 들어간 상태)
+        String email = "login_cache_" + System.nanoTime() + "@desk.com";
+        Member member = Member.builder()
+                .email(email)
+                .pw("pw")
+                .nickname("캐시테스트")
+                .isApproved(false)
+                .build();
+        member.addRole(MemberRole.USER);
+        memberRepository.save(member);
+
+        try {
+            assertThatThrownBy(() -> customUserDetailsService.loadUserByUsername(email))
+                    .isInstanceOf(UsernameNotFoundException.class)
+                    .hasMessage("PENDING_APPROVAL");
+
+            // When (승인 → 커밋 후 캐시가 비워져서 다음 로그인은 승인된 상태로)
+            adminService.approveMember(email);
+
+            // Then
+            long hits = memberPrincipalCache.getStats().getHits();
+            assertThat(customUserDetailsService.loadUserByUsername(email).getAuthorities()).hasSize(1);
+            customUserDetailsService.loadUserByUsername(email);
+            assertThat(memberPrincipalCache.getStats().getHits()).isGreaterThan(hits);
+
+            // 삭제도 바로 반영
+            adminService.deleteMember(email);
+            assertThatThrownBy(() -> customUserDetailsService.loadUserByUsername(email))
+                    .hasMessage("DELETED_ACCOUNT");
+        } finally {
+            memberRepository.deleteById(email);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.desk.service;
 
 import com.desk.domain.Department;
 import com.desk.domain.Member;
+import com.desk.domain.MemberRole;
 import com.desk.dto.MemberJoinDTO;
 import com.desk.dto.MemberModifyDTO;
 import com.desk.repository.MemberRepository;
@@ -11,6 +12,11 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
@@ -27,6 +33,12 @@ public class MemberServiceTests {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private DaoAuthenticationProvider authenticationProvider;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
     @Test
     @Transactional
     public void testJoin() {
@@ -85,4 +97,30 @@ public class MemberServiceTests {
         assertThat(updatedMember.getNickname()).isEqualTo("수정된닉네임");
         log.info("회원정보 수정 완료: " + updatedMember);
     }
-}
\ No newline at end of file
+
+    @Test
+    @Transactional
+    public void testLoginUpgradesLegacyHash() {
+        // Given (접두사 없는 예전 형식, 낮은 비용으로 저장된 회원)
+        String email = "rehash_" + System.nanoTime() + "@desk.com";
+        Member member = Member.builder()
+                .email(email)
+                .pw(new BCryptPasswordEncoder(4).encode("password123"))
+                .nickname("재해시")
+                .isApproved(true)
+                .build();
+        member.addRole(MemberRole.USER);
+        memberRepository.save(member);
+
+        // When (로그인)
+        Authentication result = authenticationProvider.authenticate(
+                new UsernamePasswordAuthenticationToken(email, "password123"));
+
+        // Then (새 형식 + 설정된 비용으로 다시 저장, 새 해시로도 로그인 됨)
+        assertThat(result.isAuthenticated()).isTrue();
+        String rehashed = memberRepository.findById(email).orElseThrow().getPw();
+        assertThat(rehashed).startsWith("{bcrypt}$2a$10$");
+        assertThat(passwordEncoder.matches("password123", rehashed)).isTrue();
+        log.info("재해시: " + rehashed);
+    }
+}
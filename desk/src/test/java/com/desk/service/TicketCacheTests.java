@@ -0,0 +1,185 @@
+package com.desk.service;
+
+import com.desk.config.TicketCacheConfig;
+import com.desk.domain.TicketGrade;
+import com.desk.domain.TicketState;
+import com.desk.dto.CacheStatsDTO;
+import com.desk.dto.TicketBulkUpdateDTO;
+import com.desk.dto.TicketCreateDTO;
+import com.desk.dto.TicketReceivedListDTO;
+import com.desk.dto.TicketSentListDTO;
+import com.desk.dto.TicketStateDTO;
+import com.desk.repository.TicketPersonalRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * 티켓 상세 2차 캐시 테스트
+ * 캐시는 커밋된 데이터만 들어가므로 트랜잭션 롤백 없이 실행하고 마지막에 삭제함
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "ticket.read-receipt.flush-interval=0"
+})
+@Log4j2
+class TicketCacheTests {
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private ReadReceiptBuffer readReceiptBuffer;
+
+    @Autowired
+    private PersonalTicketService personalTicketService;
+
+    @Autowired
+    private TicketPersonalRepository ticketPersonalRepository;
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("상세 조회 캐시 - 두 번째부터 쿼리 없음, 읽음/상태변경은 캐시에 반영, 삭제 후에는 조회 안 됨")
+    void detailReadsFromCache() {
+        // given
+        String suffix = String.valueOf(System.nanoTime());
+        String writer = "캐시작성자_" + suffix;
+        String receiver = "캐시수신자_" + suffix;
+        Long tno = ticketService.create(TicketCreateDTO.builder()
+                .title("캐시 테스트")
+                .content("자주 열어보는 티켓")
+                .grade(TicketGrade.HIGH)
+                .receivers(List.of(receiver, "캐시다른수신자_" + suffix))
+                .build(), writer).getTno();
+        Long pno = ticketPersonalRepository.findInboxByReceiverAndTno(receiver, tno).orElseThrow().getPno();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+
+        try {
+            // when: 처음은 DB 에서, 두 번째부터는 캐시에서
+            ticketService.readSent(tno, writer);
+            personalTicketService.readRecieveTicket(pno, receiver, false);
+
+            statistics.clear();
+            TicketSentListDTO cached = ticketService.readSent(tno, writer);
+            personalTicketService.readRecieveTicket(pno, receiver, false);
+
+            // then
+            assertEquals(0, statistics.getPrepareStatementCount(), "캐시된 상세 조회는 쿼리가 없어야 합니다.");
+            assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+            assertEquals(2, cached.getPersonals().size());
+
+            // tno 로 조회(알림 딥링크)는 소유 확인 + 티켓 내용까지 쿼리 한 번
+            statistics.clear();
+            TicketReceivedListDTO byTno = personalTicketService.readRecieveTicketByTno(tno, receiver, false);
+            assertEquals(pno, byTno.getPno());
+            assertEquals("자주 열어보는 티켓", byTno.getContent());
+            assertEquals(1, statistics.getPrepareStatementCount(), "tno 조회는 쿼리 한 번이어야 합니다.");
+            assertThrows(IllegalArgumentException.class,
+                    () -> personalTicketService.readRecieveTicketByTno(tno, "캐시다른사람_" + suffix, false));
+
+            // 읽음(버퍼 flush)/상태변경은 update 한 번 + 바뀐 수신자 행만 캐시에서 비움 (티켓, 다른 수신자, 수신자 목록 캐시는 그대로)
+            personalTicketService.readRecieveTicket(pno, receiver, true);
+            readReceiptBuffer.flush();
+            personalTicketService.changeState(pno, receiver, TicketState.IN_PROGRESS);
+
+            statistics.clear();
+            TicketStateDTO changed = ticketService.readSent(tno, writer).getPersonals().stream()
+                    .filter(p -> p.getPno().equals(pno))
+                    .findFirst()
+                    .orElseThrow();
+            assertTrue(changed.isIsread());
+            assertEquals(TicketState.IN_PROGRESS, changed.getState());
+            assertEquals(1, statistics.getPrepareStatementCount(), "바뀐 수신자 행 하나만 다시 읽어야 합니다.");
+
+            statistics.clear();
+            ticketService.readSent(tno, writer);
+            assertEquals(0, statistics.getPrepareStatementCount(), "다시 읽은 뒤에는 캐시에서 읽어야 합니다.");
+
+            CacheStatsDTO ticketStats = adminService.getCacheStats().stream()
+                    .filter(s -> s.getRegion().equals(TicketCacheConfig.TICKET))
+                    .findFirst()
+                    .orElseThrow();
+            log.info("[CACHE_STATS] {}", adminService.getCacheStats());
+            assertTrue(ticketStats.getHits() > 0);
+        } finally {
+            ticketService.deleteSent(tno, writer);
+        }
+
+        // 삭제된 티켓은 캐시에서도 빠짐
+        assertThrows(IllegalArgumentException.class, () -> ticketService.readSent(tno, writer));
+        assertThrows(IllegalArgumentException.class, () -> personalTicketService.readRecieveTicket(pno, receiver, false));
+    }
+
+    @Test
+    @DisplayName("삭제/일괄 읽음처리 - 바뀐 행만 캐시에서 비우고 관계없는 티켓 캐시는 그대로")
+    void bulkWritesKeepUnrelatedCache() {
+        // given: 캐시에 올려둘 티켓 하나 + 지울 티켓 + 일괄 읽음처리할 티켓
+        String suffix = String.valueOf(System.nanoTime());
+        String writer = "캐시작성자_" + suffix;
+        String receiver = "캐시수신자_" + suffix;
+        String other = "캐시다른수신자_" + suffix;
+        Long tno = ticketService.create(TicketCreateDTO.builder()
+                .title("캐시 유지")
+                .content("다른 티켓이 바뀌어도 캐시에 남는 티켓")
+                .grade(TicketGrade.HIGH)
+                .receivers(List.of(receiver))
+                .build(), writer).getTno();
+        Long deletedTno = ticketService.create(TicketCreateDTO.builder()
+                .title("캐시 삭제")
+                .content("지울 티켓")
+                .grade(TicketGrade.LOW)
+                .receivers(List.of(other))
+                .build(), writer).getTno();
+        Long readTno = ticketService.create(TicketCreateDTO.builder()
+                .title("캐시 읽음")
+                .content("일괄 읽음처리할 티켓")
+                .grade(TicketGrade.LOW)
+                .receivers(List.of(other))
+                .build(), writer).getTno();
+        Long pno = ticketPersonalRepository.findInboxByReceiverAndTno(receiver, tno).orElseThrow().getPno();
+        Long readPno = ticketPersonalRepository.findInboxByReceiverAndTno(other, readTno).orElseThrow().getPno();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+
+        try {
+            ticketService.readSent(tno, writer);
+            personalTicketService.readRecieveTicket(pno, receiver, false);
+
+            // when
+            ticketService.deleteSent(deletedTno, writer);
+            long marked = personalTicketService.markAsRead(other, TicketBulkUpdateDTO.builder()
+                    .pnos(List.of(readPno))
+                    .build());
+
+            // then
+            assertEquals(1, marked);
+            statistics.clear();
+            ticketService.readSent(tno, writer);
+            personalTicketService.readRecieveTicket(pno, receiver, false);
+            assertEquals(0, statistics.getPrepareStatementCount(), "관계없는 티켓은 캐시에서 읽어야 합니다.");
+
+            assertTrue(ticketService.readSent(readTno, writer).getPersonals().get(0).isIsread());
+            assertThrows(IllegalArgumentException.class, () -> ticketService.readSent(deletedTno, writer));
+        } finally {
+            ticketService.deleteSent(tno, writer);
+            ticketService.deleteSent(readTno, writer);
+        }
+    }
+}
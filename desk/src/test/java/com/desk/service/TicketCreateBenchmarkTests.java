@@ -0,0 +1,96 @@
+package com.desk.service;
+
+import com.desk.domain.TicketGrade;
+import com.desk.dto.TicketCreateDTO;
+import com.desk.repository.TicketPersonalRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * 티켓 생성 벤치마크 (수신자 1 / 100 / 5,000명)
+ * 수신자 수만큼 insert 가 나가지만 배치로 묶여서 prepare 횟수는 batch_size 단위로만 늘어나야 함
+ * 측정값은 로그로 확인 ([CREATE_BENCH]), SQL 출력은 시간에 섞이지 않게 끔
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Log4j2
+class TicketCreateBenchmarkTests {
+
+    private static final int WARMUP = 2;
+    private static final int ITERATIONS = 5;
+    private static final int BATCH_SIZE = 100;
+    // TicketPersonal 시퀀스 allocationSize (이만큼마다 시퀀스 조회 1번)
+    private static final int PNO_ALLOCATION = 500;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketPersonalRepository ticketPersonalRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @ParameterizedTest(name = "수신자 {0}명")
+    @ValueSource(ints = {1, 100, 5000})
+    @Transactional
+    @DisplayName("티켓 생성 벤치마크 - 수신자 수별 생성 시간과 배치 여부")
+    void createWithReceivers(int receiverCount) {
+        // given
+        String prefix = "벤치수신자_" + System.nanoTime() + "_";
+        List<String> receivers = IntStream.rangeClosed(1, receiverCount)
+                .mapToObj(i -> prefix + i)
+                .toList();
+        TicketCreateDTO req = TicketCreateDTO.builder()
+                .title("생성 벤치마크")
+                .content("수신자 " + receiverCount + "명")
+                .grade(TicketGrade.LOW)
+                .receivers(receivers)
+                .build();
+
+        for (int i = 0; i < WARMUP; i++) {
+            ticketService.create(req, "벤치작성자");
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        long total = 0;
+        Long lastTno = null;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            lastTno = ticketService.create(req, "벤치작성자").getTno();
+            total += System.nanoTime() - start;
+        }
+
+        // then
+        double avgMillis = total / 1_000_000.0 / ITERATIONS;
+        long prepared = statistics.getPrepareStatementCount() / ITERATIONS;
+        log.info("[CREATE_BENCH] 수신자={} | 평균={}ms | 티켓당 prepare={} | 수신자당={}us",
+                receiverCount, String.format("%.2f", avgMillis), prepared,
+                String.format("%.1f", avgMillis * 1000 / receiverCount));
+
+        assertEquals(receiverCount, ticketPersonalRepository.countByTicket_Tno(lastTno),
+                "수신자 수만큼 TicketPersonal 이 생성되어야 합니다.");
+        // 수신자 insert 가 한 건씩 나가면 수신자 수만큼 prepare 됨 (시퀀스 조회 + 카운터 갱신 등 몇 개 여유)
+        assertTrue(prepared <= receiverCount / BATCH_SIZE + receiverCount / PNO_ALLOCATION + 10,
+                "수신자 insert 는 배치로 묶여야 합니다. 티켓당 prepare=" + prepared);
+    }
+}
@@ -1,24 +1,46 @@
 package com.desk.service;
 
+import com.desk.domain.TicketGrade;
 import com.desk.domain.TicketState;
+import com.desk.dto.CursorResponseDTO;
+import com.desk.dto.TicketBulkUpdateDTO;
+import com.desk.dto.TicketCreateDTO;
 import com.desk.dto.TicketFilterDTO;
+import com.desk.dto.TicketInboxCountDTO;
 import com.desk.dto.TicketReceivedListDTO;
+import com.desk.dto.TicketReceivedRowDTO;
+import com.desk.util.InvalidStateTransitionException;
 import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.*;
 import org.springframework.test.annotation.Rollback;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-@SpringBootTest
+// 읽음처리 버퍼는 자동 flush 없이 테스트에서 직접 (테스트 트랜잭션 안의 행은 다른 스레드에서 못 바꿈)
+@SpringBootTest(properties = "ticket.read-receipt.flush-interval=0")
 @Log4j2
 class TicketPersonalServiceTests {
 
     @Autowired
     private PersonalTicketService personalTicketService;
 
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private ReadReceiptBuffer readReceiptBuffer;
+
     /* =========================================================
      * DB 확인하면서 아래 전역변수 바꿔서 테스트 하시면 됩니다 ^^
      * ========================================================= */
@@ -51,7 +73,7 @@ class TicketPersonalServiceTests {
         );
 
         // when
-        Page<TicketReceivedListDTO> page =
+        Page<TicketReceivedRowDTO> page =
                 personalTicketService.listRecieveTicket(LIST_INBOX_RECEIVER, filter, pageable);
 
         // then
@@ -97,7 +119,7 @@ class TicketPersonalServiceTests {
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "pno"));
 
         // when
-        Page<TicketReceivedListDTO> page =
+        Page<TicketReceivedRowDTO> page =
                 personalTicketService.listRecieveTicket(LIST_INBOX_RECEIVER, filter, pageable);
 
         // then
@@ -126,7 +148,7 @@ class TicketPersonalServiceTests {
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "pno"));
 
         // when
-        Page<TicketReceivedListDTO> page =
+        Page<TicketReceivedRowDTO> page =
                 personalTicketService.listRecieveTicket(LIST_INBOX_RECEIVER, filter, pageable);
 
         // then
@@ -142,6 +164,289 @@ class TicketPersonalServiceTests {
         });
     }
 
+    @Test
+    @Transactional
+    @DisplayName("받은 티켓 커서 조회 테스트 - nextCursor 로 다음 페이지 이어서 조회")
+    void listInboxAfter() {
+        // given
+        String receiver = "커서테스트_" + System.nanoTime();
+        for (int i = 1; i <= 3; i++) {
+            ticketService.create(TicketCreateDTO.builder()
+                    .title("커서 테스트 " + i)
+                    .grade(TicketGrade.LOW)
+                    .receivers(List.of(receiver))
+                    .build(), "커서테스트작성자");
+        }
+
+        // when
+        CursorResponseDTO<TicketReceivedRowDTO> first =
+                personalTicketService.listRecieveTicketAfter(receiver, null, null, 2);
+        CursorResponseDTO<TicketReceivedRowDTO> second =
+                personalTicketService.listRecieveTicketAfter(receiver, null, first.getNextCursor(), 2);
+
+        // then
+        assertEquals(2, first.getDtoList().size(), "첫 페이지는 size 만큼 가져와야 합니다.");
+        assertTrue(first.isHasNext(), "다음 페이지가 있어야 합니다.");
+        assertEquals(first.getDtoList().get(1).getPno(), first.getNextCursor(),
+                "nextCursor 는 마지막 pno 여야 합니다.");
+
+        assertEquals(1, second.getDtoList().size(), "남은 1건만 가져와야 합니다.");
+        assertFalse(second.isHasNext(), "마지막 페이지입니다.");
+        assertNull(second.getNextCursor(), "마지막 페이지는 nextCursor 가 없어야 합니다.");
+        assertTrue(second.getDtoList().get(0).getPno() < first.getNextCursor(),
+                "다음 페이지는 커서보다 작은 pno 여야 합니다.");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("받은 티켓 목록 행 테스트 - 목록은 목록 컬럼만, 본문은 상세에서")
+    void listInboxRowThenDetail() {
+        // given
+        String receiver = "목록행테스트_" + System.nanoTime();
+        ticketService.create(TicketCreateDTO.builder()
+                .title("목록 행 테스트")
+                .content("상세에서만 보이는 본문")
+                .purpose("목적")
+                .grade(TicketGrade.HIGH)
+                .receivers(List.of(receiver))
+                .build(), "목록행작성자");
+
+        // when
+        Page<TicketReceivedRowDTO> page =
+                personalTicketService.listRecieveTicket(receiver, null, PageRequest.of(0, 10));
+
+        // then
+        assertEquals(1, page.getTotalElements(), "받은 티켓 1건이어야 합니다.");
+        TicketReceivedRowDTO row = page.getContent().get(0);
+        assertEquals("목록 행 테스트", row.getTitle());
+        assertEquals(TicketGrade.HIGH, row.getGrade());
+        assertEquals("목록행작성자", row.getWriter());
+        assertEquals(receiver, row.getReceiver());
+        assertFalse(row.isIsread(), "목록 조회로는 읽음 처리되지 않아야 합니다.");
+
+        TicketReceivedListDTO detail = personalTicketService.readRecieveTicket(row.getPno(), receiver, false);
+        assertEquals(row.getTno(), detail.getTno());
+        assertEquals("상세에서만 보이는 본문", detail.getContent());
+        assertEquals("목적", detail.getPurpose());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("받은함 배지 개수 테스트 - 생성/읽음/상태변경/삭제 때 같이 갱신")
+    void inboxCounts() {
+        // given
+        String receiver = "배지테스트_" + System.nanoTime();
+        String writer = "배지테스트작성자";
+        TicketCreateDTO req = TicketCreateDTO.builder()
+                .title("배지 테스트")
+                .grade(TicketGrade.LOW)
+                .receivers(List.of(receiver, "다른수신자"))
+                .build();
+        ticketService.create(req, writer);
+        ticketService.create(req, writer);
+
+        TicketInboxCountDTO created = personalTicketService.getCounts(receiver);
+        assertEquals(2, created.getTotal());
+        assertEquals(2, created.getUnread());
+        assertEquals(2, created.getStateNew());
+
+        // when
+        List<TicketReceivedRowDTO> rows = personalTicketService
+                .listRecieveTicket(receiver, null, PageRequest.of(0, 10)).getContent();
+        Long pno = rows.get(0).getPno();
+        personalTicketService.readRecieveTicket(pno, receiver, true);
+        personalTicketService.readRecieveTicket(pno, receiver, true); // 이미 읽은 건 다시 빼지 않음
+        readReceiptBuffer.flush();
+        personalTicketService.changeState(pno, receiver, TicketState.IN_PROGRESS);
+        personalTicketService.changeState(pno, receiver, TicketState.IN_PROGRESS); // 같은 상태면 그대로
+
+        // then
+        TicketInboxCountDTO changed = personalTicketService.getCounts(receiver);
+        assertEquals(2, changed.getTotal());
+        assertEquals(1, changed.getUnread());
+        assertEquals(1, changed.getStateNew());
+        assertEquals(1, changed.getStateInProgress());
+
+        // 읽고 상태를 바꾼 티켓을 삭제하면 바뀐 상태 기준으로 빠짐
+        ticketService.deleteSent(rows.get(0).getTno(), writer);
+        TicketInboxCountDTO deleted = personalTicketService.getCounts(receiver);
+        assertEquals(1, deleted.getTotal());
+        assertEquals(1, deleted.getUnread());
+        assertEquals(1, deleted.getStateNew());
+        assertEquals(0, deleted.getStateInProgress());
+
+        assertEquals(0, personalTicketService.getCounts("없는수신자_" + System.nanoTime()).getTotal());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("받은 티켓 일괄 읽음/상태변경 테스트 - 내 티켓만, 배지 개수도 같이")
+    void bulkReadAndState() {
+        // given
+        String receiver = "일괄테스트_" + System.nanoTime();
+        String other = "일괄다른수신자_" + System.nanoTime();
+        for (int i = 1; i <= 3; i++) {
+            ticketService.create(TicketCreateDTO.builder()
+                    .title("일괄 테스트 " + i)
+                    .grade(i == 3 ? TicketGrade.HIGH : TicketGrade.LOW)
+                    .receivers(List.of(receiver, other))
+                    .build(), "일괄테스트작성자");
+        }
+        List<Long> mine = personalTicketService.listRecieveTicket(receiver, null, PageRequest.of(0, 10))
+                .map(TicketReceivedRowDTO::getPno).getContent();
+        Long othersPno = personalTicketService.listRecieveTicket(other, null, PageRequest.of(0, 10))
+                .getContent().get(0).getPno();
+
+        // when: pno 로 2건 + 남의 pno 1건 읽음처리
+        long read = personalTicketService.markAsRead(receiver, TicketBulkUpdateDTO.builder()
+                .pnos(List.of(mine.get(0), mine.get(1), othersPno))
+                .build());
+        // 읽은 것들만 필터로 DONE
+        long done = personalTicketService.changeStates(receiver, TicketBulkUpdateDTO.builder()
+                .filter(TicketFilterDTO.builder().read(true).build())
+                .state(TicketState.DONE)
+                .build());
+        // 등급 필터 (ticket 쪽 조건) 로 읽음처리
+        long high = personalTicketService.markAsRead(receiver, TicketBulkUpdateDTO.builder()
+                .filter(TicketFilterDTO.builder().grade(TicketGrade.HIGH).build())
+                .build());
+
+        // then
+        assertEquals(2, read, "남의 티켓은 바뀌지 않아야 합니다.");
+        assertEquals(2, done);
+        assertEquals(0, high, "HIGH 티켓은 이미 읽음 처리되어 다시 바뀌지 않아야 합니다.");
+
+        TicketInboxCountDTO counts = personalTicketService.getCounts(receiver);
+        assertEquals(3, counts.getTotal());
+        assertEquals(1, counts.getUnread());
+        assertEquals(1, counts.getStateNew());
+        assertEquals(2, counts.getStateDone());
+
+        // 목록(inbox_entry)에도 일괄 변경이 같이 반영
+        assertEquals(2, personalTicketService.listRecieveTicket(receiver,
+                TicketFilterDTO.builder().state(TicketState.DONE).read(true).build(),
+                PageRequest.of(0, 10)).getTotalElements());
+        assertEquals(1, personalTicketService.listRecieveTicket(receiver,
+                TicketFilterDTO.builder().read(false).build(),
+                PageRequest.of(0, 10)).getTotalElements());
+
+        TicketInboxCountDTO othersCounts = personalTicketService.getCounts(other);
+        assertEquals(3, othersCounts.getUnread(), "남의 배지 개수도 그대로여야 합니다.");
+        assertEquals(3, othersCounts.getStateNew());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> personalTicketService.markAsRead(receiver, new TicketBulkUpdateDTO()),
+                "대상(pnos/filter) 없이 전체를 바꾸면 안 됩니다.");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("읽음처리 write-behind 테스트 - 조회 응답은 바로 읽음, DB/배지/목록은 flush 때 한 번에")
+    void readReceiptWriteBehind() {
+        // given
+        String receiver = "읽음버퍼테스트_" + System.nanoTime();
+        for (int i = 1; i <= 3; i++) {
+            ticketService.create(TicketCreateDTO.builder()
+                    .title("읽음 버퍼 테스트 " + i)
+                    .grade(TicketGrade.LOW)
+                    .receivers(List.of(receiver))
+                    .build(), "읽음버퍼테스트작성자");
+        }
+        List<Long> pnos = personalTicketService.listRecieveTicket(receiver, null, PageRequest.of(0, 10))
+                .map(TicketReceivedRowDTO::getPno).getContent();
+        long flushedBefore = readReceiptBuffer.getStats().getFlushedRows();
+
+        // when: 같은 티켓 두 번 + 다른 티켓 한 번
+        assertTrue(personalTicketService.readRecieveTicket(pnos.get(0), receiver, true).isIsread());
+        assertTrue(personalTicketService.readRecieveTicket(pnos.get(0), receiver, true).isIsread());
+        personalTicketService.readRecieveTicket(pnos.get(1), receiver, true);
+
+        // then: flush 전에는 배지 그대로
+        assertEquals(3, personalTicketService.getCounts(receiver).getUnread());
+        assertEquals(2, readReceiptBuffer.getStats().getPending(), "같은 pno 는 한 번만 쌓여야 합니다.");
+
+        assertEquals(2, readReceiptBuffer.flush());
+        assertEquals(0, readReceiptBuffer.getStats().getPending());
+        assertEquals(flushedBefore + 2, readReceiptBuffer.getStats().getFlushedRows());
+        assertEquals(1, personalTicketService.getCounts(receiver).getUnread());
+        assertEquals(2, personalTicketService.listRecieveTicket(receiver,
+                TicketFilterDTO.builder().read(true).build(), PageRequest.of(0, 10)).getTotalElements());
+        assertTrue(personalTicketService.readRecieveTicket(pnos.get(0), receiver, false).isIsread());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("상태변경 전이표 테스트 - 가능한 이전 상태일 때만 바뀌고, 안 되면 예외")
+    void changeStateTransitions() {
+        // given
+        String receiver = "전이테스트_" + System.nanoTime();
+        Long tno = ticketService.create(TicketCreateDTO.builder()
+                .title("전이 테스트")
+                .grade(TicketGrade.LOW)
+                .receivers(List.of(receiver))
+                .build(), "전이테스트작성자").getTno();
+        Long pno = personalTicketService.readRecieveTicketByTno(tno, receiver, false).getPno();
+
+        // when & then
+        assertEquals(TicketState.DONE, personalTicketService.changeState(pno, receiver, TicketState.DONE).getState());
+        assertFalse(personalTicketService.updateState(pno, receiver, TicketState.DONE), "같은 상태면 그대로");
+        assertThrows(InvalidStateTransitionException.class,
+                () -> personalTicketService.changeState(pno, receiver, TicketState.NEED_INFO),
+                "완료된 티켓은 추가정보요청으로 바꿀 수 없어야 합니다.");
+        assertThrows(InvalidStateTransitionException.class,
+                () -> personalTicketService.changeState(pno, receiver, TicketState.NEW),
+                "NEW 로 되돌릴 수 없어야 합니다.");
+        assertEquals(TicketState.IN_PROGRESS,
+                personalTicketService.changeState(pno, receiver, TicketState.IN_PROGRESS).getState(), "재오픈");
+        assertThrows(IllegalArgumentException.class,
+                () -> personalTicketService.updateState(pno, "권한없는사용자", TicketState.DONE));
+
+        TicketInboxCountDTO counts = personalTicketService.getCounts(receiver);
+        assertEquals(1, counts.getStateInProgress());
+        assertEquals(0, counts.getStateDone());
+        assertEquals(0, counts.getStateNew());
+    }
+
+    @Test
+    @DisplayName("상태변경 동시 요청 테스트 - 같은 전이는 한 요청만 성공, 배지 개수도 한 번만")
+    void changeStateConcurrent() throws Exception {
+        // given (다른 스레드에서 보이도록 커밋)
+        String receiver = "동시전이테스트_" + System.nanoTime();
+        String writer = "동시전이테스트작성자";
+        Long tno = ticketService.create(TicketCreateDTO.builder()
+                .title("동시 전이 테스트")
+                .grade(TicketGrade.LOW)
+                .receivers(List.of(receiver))
+                .build(), writer).getTno();
+        Long pno = personalTicketService.readRecieveTicketByTno(tno, receiver, false).getPno();
+
+        try {
+            // when
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> personalTicketService.updateState(pno, receiver, TicketState.IN_PROGRESS)));
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+            // then
+            long changed = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    changed++;
+                }
+            }
+            assertEquals(1, changed, "한 요청만 바꿔야 합니다.");
+
+            TicketInboxCountDTO counts = personalTicketService.getCounts(receiver);
+            assertEquals(0, counts.getStateNew());
+            assertEquals(1, counts.getStateInProgress());
+        } finally {
+            ticketService.deleteSent(tno, writer);
+        }
+    }
+
     @Test
     @Rollback(false)
     @DisplayName("받은 티켓 단일 조회 테스트 - tpno 기준, 읽음 처리 포함")
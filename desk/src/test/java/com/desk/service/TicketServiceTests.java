@@ -1,9 +1,17 @@
 package com.desk.service;
 
+import com.desk.domain.Department;
+import com.desk.domain.Member;
+import com.desk.domain.MemberRole;
 import com.desk.domain.TicketGrade;
+import com.desk.domain.TicketState;
+import com.desk.dto.TicketBulkUpdateDTO;
 import com.desk.dto.TicketCreateDTO;
 import com.desk.dto.TicketFilterDTO;
 import com.desk.dto.TicketSentListDTO;
+import com.desk.dto.TicketSentRowDTO;
+import com.desk.dto.TicketStateDTO;
+import com.desk.repository.MemberRepository;
 import com.desk.repository.TicketPersonalRepository;
 import com.desk.repository.TicketRepository;
 import lombok.extern.log4j.Log4j2;
@@ -11,14 +19,19 @@ import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.*;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.Rollback;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-@SpringBootTest
+// 읽음처리 버퍼는 자동 flush 없이 테스트에서 직접 (테스트 트랜잭션 안의 행은 다른 스레드에서 못 바꿈)
+@SpringBootTest(properties = "ticket.read-receipt.flush-interval=0")
 @Log4j2
 class TicketServiceTests {
 
@@ -31,6 +44,18 @@ class TicketServiceTests {
     @Autowired
     private TicketPersonalRepository ticketPersonalRepository;
 
+    @Autowired
+    private PersonalTicketService personalTicketService;
+
+    @Autowired
+    private ReadReceiptBuffer readReceiptBuffer;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     /* =========================================================
      * DB 확인하면서 아래 전역변수 바꿔서 테스트 하시면 됩니다 ^^
      * ========================================================= */
@@ -107,7 +132,7 @@ class TicketServiceTests {
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "tno"));
 
         // when
-        Page<TicketSentListDTO> page = ticketService.listSent(LIST_SENT_WRITER, filter, pageable);
+        Page<TicketSentRowDTO> page = ticketService.listSent(LIST_SENT_WRITER, filter, pageable);
 
         // then
         log.info("[LIST_SENT] writer={}, totalElements={}, totalPages={}, pageSize={}",
@@ -121,11 +146,12 @@ class TicketServiceTests {
                     "모든 티켓의 작성자가 일치해야 합니다.");
             assertNotNull(dto.getTno(), "tno는 null이면 안 됩니다.");
             assertNotNull(dto.getTitle(), "제목은 null이면 안 됩니다.");
-            log.info("[LIST_SENT_ITEM] tno={}, title={}, writer={}, personals={}",
+            log.info("[LIST_SENT_ITEM] tno={}, title={}, writer={}, receivers={}, read={}",
                     dto.getTno(),
                     dto.getTitle(),
                     dto.getWriter(),
-                    (dto.getPersonals() == null ? "null" : dto.getPersonals().size()));
+                    dto.getReceiverCount(),
+                    dto.getReadCount());
         });
     }
     
@@ -140,7 +166,7 @@ class TicketServiceTests {
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "tno"));
 
         // when
-        Page<TicketSentListDTO> page = ticketService.listSent(LIST_SENT_WRITER, filter, pageable);
+        Page<TicketSentRowDTO> page = ticketService.listSent(LIST_SENT_WRITER, filter, pageable);
 
         // then
         log.info("[LIST_SENT_WITH_FILTER] writer={}, grade={}, totalElements={}",
@@ -158,6 +184,191 @@ class TicketServiceTests {
         });
     }
 
+    @Test
+    @Transactional
+    @DisplayName("보낸 티켓 목록 조회 테스트 - 티켓 행 페이징 + 진행 현황")
+    void listSentPagingByIds() {
+        // given
+        String writer = "페이징테스트_" + System.nanoTime();
+        for (int i = 1; i <= 3; i++) {
+            ticketService.create(TicketCreateDTO.builder()
+                    .title("페이징 테스트 " + i)
+                    .content("페이징 테스트 내용 " + i)
+                    .grade(TicketGrade.LOW)
+                    .receivers(List.of("수신자A", "수신자B"))
+                    .build(), writer);
+        }
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "tno"));
+
+        // when
+        Page<TicketSentRowDTO> page = ticketService.listSent(writer, null, pageable);
+
+        // then
+        assertEquals(3, page.getTotalElements(), "전체 개수는 생성한 티켓 수와 같아야 합니다.");
+        assertEquals(2, page.getContent().size(), "페이지 크기만큼만 가져와야 합니다.");
+        assertTrue(page.getContent().get(0).getTno() > page.getContent().get(1).getTno(),
+                "tno 내림차순이어야 합니다.");
+        page.getContent().forEach(dto -> {
+            assertEquals(2, dto.getReceiverCount(), "수신자 수가 모두 포함되어야 합니다.");
+            assertEquals(2, dto.getStateNew());
+        });
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("보낸 티켓 진행 현황 테스트 - 읽음/상태변경이 개수에 반영, 수신자 목록은 따로 페이징")
+    void sentSummaryAndReceivers() {
+        // given
+        String writer = "진행현황테스트_" + System.nanoTime();
+        List<String> receivers = List.of("현황수신자A_" + writer, "현황수신자B_" + writer, "현황수신자C_" + writer);
+        Long tno = ticketService.create(TicketCreateDTO.builder()
+                .title("진행 현황 테스트")
+                .grade(TicketGrade.LOW)
+                .receivers(receivers)
+                .build(), writer).getTno();
+
+        // when: A 단건 읽음, B 단건 상태변경, C 일괄 읽음 + 일괄 DONE
+        personalTicketService.readRecieveTicketByTno(tno, receivers.get(0), true);
+        readReceiptBuffer.flush();
+        Long pnoB = ticketPersonalRepository.findInboxByReceiverAndTno(receivers.get(1), tno).orElseThrow().getPno();
+        personalTicketService.changeState(pnoB, receivers.get(1), TicketState.IN_PROGRESS);
+        Long pnoC = ticketPersonalRepository.findInboxByReceiverAndTno(receivers.get(2), tno).orElseThrow().getPno();
+        personalTicketService.markAsRead(receivers.get(2), TicketBulkUpdateDTO.builder().pnos(List.of(pnoC)).build());
+        personalTicketService.changeStates(receivers.get(2), TicketBulkUpdateDTO.builder()
+                .filter(TicketFilterDTO.builder().read(true).build())
+                .state(TicketState.DONE)
+                .build());
+
+        // then
+        TicketSentRowDTO row = ticketService.listSent(writer, null, PageRequest.of(0, 10)).getContent().get(0);
+        assertEquals(3, row.getReceiverCount());
+        assertEquals(2, row.getReadCount());
+        assertEquals(1, row.getStateNew());
+        assertEquals(1, row.getStateInProgress());
+        assertEquals(0, row.getStateNeedInfo());
+        assertEquals(1, row.getStateDone());
+
+        Page<TicketStateDTO> first = ticketService.listReceivers(tno, writer, PageRequest.of(0, 2, Sort.by("pno")));
+        assertEquals(3, first.getTotalElements());
+        assertEquals(2, first.getNumberOfElements());
+        assertEquals(receivers.get(0), first.getContent().get(0).getReceiver());
+        assertTrue(first.getContent().get(0).isIsread());
+        assertEquals(TicketState.IN_PROGRESS, first.getContent().get(1).getState());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> ticketService.listReceivers(tno, "다른작성자", PageRequest.of(0, 2)),
+                "남의 티켓 수신자 목록은 볼 수 없어야 합니다.");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("보낸 티켓 슬라이스 조회 테스트 - count 없이 다음 페이지 여부만")
+    void listSentSlice() {
+        // given
+        String writer = "슬라이스테스트_" + System.nanoTime();
+        for (int i = 1; i <= 3; i++) {
+            ticketService.create(TicketCreateDTO.builder()
+                    .title("슬라이스 테스트 " + i)
+                    .grade(TicketGrade.LOW)
+                    .receivers(List.of("수신자A"))
+                    .build(), writer);
+        }
+
+        // when
+        Slice<TicketSentRowDTO> first = ticketService.listSentSlice(writer, null, PageRequest.of(0, 2));
+        Slice<TicketSentRowDTO> last = ticketService.listSentSlice(writer, null, PageRequest.of(1, 2));
+
+        // then
+        assertEquals(2, first.getNumberOfElements(), "첫 페이지는 size 만큼 가져와야 합니다.");
+        assertTrue(first.hasNext(), "다음 페이지가 있어야 합니다.");
+        assertEquals(1, last.getNumberOfElements(), "남은 1건만 가져와야 합니다.");
+        assertFalse(last.hasNext(), "마지막 페이지입니다.");
+    }
+
+    @Test
+    @Rollback(false)
+    @DisplayName("보낸 티켓 개수 캐시 테스트 - 티켓 생성 후 전체 개수가 갱신되는지 확인")
+    void listSentCountCacheEvictedOnCreate() {
+        // given
+        String writer = "개수캐시테스트_" + System.nanoTime();
+        TicketCreateDTO req = TicketCreateDTO.builder()
+                .title("개수 캐시 테스트")
+                .grade(TicketGrade.LOW)
+                .receivers(List.of("수신자A"))
+                .build();
+        ticketService.create(req, writer);
+        ticketService.create(req, writer);
+        Pageable pageable = PageRequest.of(0, 1);
+
+        // when
+        long before = ticketService.listSent(writer, null, pageable).getTotalElements();
+        ticketService.create(req, writer);
+        long after = ticketService.listSent(writer, null, pageable).getTotalElements();
+
+        // then
+        assertEquals(2, before, "생성한 티켓 수와 같아야 합니다.");
+        assertEquals(3, after, "생성 후에는 캐시가 무효화되어 새 개수가 나와야 합니다.");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("보낸 티켓 목록 조회 테스트 - 키워드 검색 (역색인 후보 + LIKE 확인)")
+    void listSentWithKeyword() {
+        // given
+        String writer = "키워드테스트_" + System.nanoTime();
+        ticketService.create(TicketCreateDTO.builder()
+                .title("서버 점검 일정 안내")
+                .content("이번 주 금요일 야간에 DB 서버를 점검합니다.")
+                .grade(TicketGrade.LOW)
+                .receivers(List.of("수신자A"))
+                .build(), writer);
+        ticketService.create(TicketCreateDTO.builder()
+                .title("회의실 예약")
+                .content("다음 주 회의실 예약 부탁드립니다.")
+                .grade(TicketGrade.LOW)
+                .receivers(List.of("수신자A"))
+                .build(), writer);
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // when
+        Page<TicketSentRowDTO> byTitle = ticketService.listSent(writer,
+                TicketFilterDTO.builder().keyword("점검 일정").build(), pageable);
+        Page<TicketSentRowDTO> byContent = ticketService.listSent(writer,
+                TicketFilterDTO.builder().keyword("금요일 야간").build(), pageable);
+        Page<TicketSentRowDTO> none = ticketService.listSent(writer,
+                TicketFilterDTO.builder().keyword("존재하지않는키워드").build(), pageable);
+
+        // then
+        assertEquals(1, byTitle.getTotalElements(), "제목 키워드로 1건 찾아야 합니다.");
+        assertEquals("서버 점검 일정 안내", byTitle.getContent().get(0).getTitle());
+        assertEquals(1, byContent.getTotalElements(), "본문 키워드로 1건 찾아야 합니다.");
+        assertEquals(0, none.getTotalElements(), "없는 키워드는 결과가 없어야 합니다.");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("보낸 티켓 목록 조회 테스트 - 키워드 검색 (대소문자/악센트가 달라도 LIKE 와 똑같이 찾음)")
+    void listSentWithFoldedKeyword() {
+        // given
+        String writer = "키워드테스트_" + System.nanoTime();
+        ticketService.create(TicketCreateDTO.builder()
+                .title("Café Menu 변경")
+                .content("Naïve Coffee 메뉴 추가")
+                .grade(TicketGrade.LOW)
+                .receivers(List.of("수신자A"))
+                .build(), writer);
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // when & then: 역색인 후보에서 빠지면 LIKE 로 맞는 티켓도 못 찾음
+        for (String keyword : List.of("cafe", "CAFÉ", "café menu", "MENU", "naive coffee")) {
+            assertEquals(1, ticketService.listSent(writer,
+                    TicketFilterDTO.builder().keyword(keyword).build(), pageable).getTotalElements(),
+                    "'" + keyword + "' 로 1건 찾아야 합니다.");
+        }
+        assertEquals(0, ticketService.listSent(writer,
+                TicketFilterDTO.builder().keyword("caffe").build(), pageable).getTotalElements());
+    }
+
     @Test
     @Rollback(false)
     @DisplayName("보낸 티켓 단일 조회 테스트 - 정상 케이스")
@@ -280,5 +491,110 @@ class TicketServiceTests {
             ticketService.deleteSent(nonExistentTno, writer);
         }, "존재하지 않는 티켓 삭제 시 예외가 발생해야 합니다.");
     }
-}
 
+    @Test
+    @Transactional
+    @DisplayName("보낸 티켓 일괄 삭제 테스트 - 수신자 행까지 delete 문으로 삭제, 남의 티켓이 섞이면 전부 취소")
+    void deleteSentBulk() {
+        // given
+        String writer = "일괄삭제작성자_" + System.nanoTime();
+        String receiver = "일괄삭제수신자_" + System.nanoTime();
+        TicketCreateDTO req = TicketCreateDTO.builder()
+                .title("일괄 삭제 테스트")
+                .grade(TicketGrade.LOW)
+                .receivers(List.of(receiver, "다른수신자"))
+                .build();
+        Long first = ticketService.create(req, writer).getTno();
+        Long second = ticketService.create(req, writer).getTno();
+        Long others = ticketService.create(req, "다른작성자").getTno();
+
+        // 남의 티켓이 섞이면 아무것도 안 지움
+        assertThrows(IllegalArgumentException.class,
+                () -> ticketService.deleteSent(List.of(first, others), writer));
+        assertTrue(ticketRepository.existsById(first));
+
+        // when
+        long deleted = ticketService.deleteSent(List.of(first, second, second), writer);
+
+        // then
+        assertEquals(2, deleted);
+        assertFalse(ticketRepository.existsById(first));
+        assertFalse(ticketRepository.existsById(second));
+        assertEquals(0, ticketPersonalRepository.countByTicket_Tno(first));
+        assertEquals(0, ticketPersonalRepository.countByTicket_Tno(second));
+        assertTrue(ticketRepository.existsById(others));
+        assertEquals(1, personalTicketService.getCounts(receiver).getTotal(), "지운 티켓만큼 배지 개수도 빠져야 합니다.");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("전체 발송 테스트 - 부서+권한 대상에게 insert ... select 로 발송")
+    void createBroadcastInsertSelect() {
+        assertBroadcast();
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("전체 발송 테스트 - 회원을 끊어 읽어서 묶음 insert")
+    void createBroadcastChunked() {
+        Object target = AopTestUtils.getTargetObject(ticketService);
+        ReflectionTestUtils.setField(target, "broadcastInsertSelect", false);
+        try {
+            assertBroadcast();
+        } finally {
+            ReflectionTestUtils.setField(target, "broadcastInsertSelect", true);
+        }
+    }
+
+    // FINANCE + MANAGER 대상 발송: 승인된 대상자만 받고, 삭제/미승인/다른 권한은 제외
+    private void assertBroadcast() {
+        String suffix = System.nanoTime() + "@broadcast.test";
+        List<String> targets = List.of("a_" + suffix, "b_" + suffix, "c_" + suffix);
+        targets.forEach(email -> memberRepository.save(broadcastMember(email, true, false, MemberRole.MANAGER)));
+        memberRepository.save(broadcastMember("deleted_" + suffix, true, true, MemberRole.MANAGER));
+        memberRepository.save(broadcastMember("pending_" + suffix, false, false, MemberRole.MANAGER));
+        memberRepository.saveAndFlush(broadcastMember("user_" + suffix, true, false, MemberRole.USER));
+
+        long expected = jdbcTemplate.queryForObject(
+                "select count(*) from member m where m.is_approved = true and m.is_deleted = false " +
+                "and m.department = 'FINANCE' and exists (select 1 from member_member_role_list r " +
+                "where r.member_email = m.email and r.member_role_list = ?)",
+                Long.class, MemberRole.MANAGER.ordinal());
+
+        Long tno = ticketService.create(TicketCreateDTO.builder()
+                .title("재무팀 매니저 공지")
+                .grade(TicketGrade.MIDDLE)
+                .department(Department.FINANCE)
+                .role(MemberRole.MANAGER)
+                .build(), "공지작성자").getTno();
+
+        List<String> receivers = jdbcTemplate.queryForList(
+                "select receiver from ticket_personal where tp_tno = ?", String.class, tno);
+        assertEquals(expected, receivers.size(), "대상자 수만큼 발송되어야 합니다.");
+        assertEquals(receivers.size(), receivers.stream().distinct().count(), "중복 발송이 없어야 합니다.");
+        assertTrue(receivers.containsAll(targets));
+        assertFalse(receivers.contains("deleted_" + suffix), "삭제된 회원은 제외");
+        assertFalse(receivers.contains("pending_" + suffix), "미승인 회원은 제외");
+        assertFalse(receivers.contains("user_" + suffix), "다른 권한은 제외");
+
+        assertEquals(1, personalTicketService.getCounts(targets.get(0)).getTotal(), "배지 개수도 갱신되어야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> ticketService.create(TicketCreateDTO.builder()
+                .title("둘 다")
+                .department(Department.FINANCE)
+                .receivers(List.of("누군가"))
+                .build(), "공지작성자"));
+    }
+
+    private Member broadcastMember(String email, boolean approved, boolean deleted, MemberRole role) {
+        Member member = Member.builder()
+                .email(email)
+                .pw("pw")
+                .nickname("발송테스트")
+                .department(Department.FINANCE)
+                .isApproved(approved)
+                .isDeleted(deleted)
+                .build();
+        member.addRole(role);
+        return member;
+    }
+}